@@ -0,0 +1,71 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.DMakerApplication;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_BULK_SIZE;
+
+// 벤치마크용으로 웹 서버 없이 인메모리 H2 위에 애플리케이션을 띄운다.
+final class BenchmarkApplication {
+
+    // 상세 캐시와 Hibernate 2차/쿼리 캐시를 모두 끈다. 캐시 hit 가 아니라 DB 조회 경로를 잴 때 쓴다.
+    static final String[] NO_CACHE = {
+            "dmaker.cache.enabled=false",
+            "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(DMakerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    static List<String> seed(DMakerService dMakerService, int count, String memberIdPrefix) {
+        List<String> memberIds = new ArrayList<>(count);
+        List<CreateDeveloper.Request> requests = new ArrayList<>(MAX_BULK_SIZE);
+        for (int i = 0; i < count; i++) {
+            String memberId = memberIdPrefix + i;
+            memberIds.add(memberId);
+            requests.add(createRequest(memberId));
+
+            if (requests.size() == MAX_BULK_SIZE) {
+                dMakerService.createDevelopers(requests);
+                requests = new ArrayList<>(MAX_BULK_SIZE);
+            }
+        }
+        if (!requests.isEmpty())
+            dMakerService.createDevelopers(requests);
+
+        return memberIds;
+    }
+
+    static CreateDeveloper.Request createRequest(String memberId) {
+        return CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(2)
+                .memberId(memberId)
+                .name("bench")
+                .age(30)
+                .build();
+    }
+}
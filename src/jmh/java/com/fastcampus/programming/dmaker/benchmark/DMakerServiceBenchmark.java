@@ -0,0 +1,116 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.service.DMakerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 인메모리 H2 위에서 DMakerService 조회 경로를 측정한다.
+// *Entity 와 *Projection 은 같은 조회를 Entity 로 읽어 Dto 로 옮기는 경우와
+// Dto 생성자 프로젝션으로 읽는 경우를 비교한다. (-prof gc 의 gc.alloc.rate.norm 참고)
+// cache=false 는 캐시를 모두 꺼서 매번 DB 를 읽는 비용을, cache=true 는 운영 설정 그대로의 비용을 잰다.
+// 조회 방식끼리 비교할 때는 cache=false 결과를 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DMakerServiceBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"10000"})
+    public int developers;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private DeveloperRepository developerRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private String[] memberIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = cache ? BenchmarkApplication.start() : BenchmarkApplication.start(BenchmarkApplication.NO_CACHE);
+        dMakerService = context.getBean(DMakerService.class);
+        developerRepository = context.getBean(DeveloperRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        memberIds = BenchmarkApplication.seed(dMakerService, developers, "bench-")
+                .toArray(new String[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private String nextMemberId() {
+        next = (next + 1) % memberIds.length;
+        return memberIds[next];
+    }
+
+    @Benchmark
+    public DeveloperPage getEmployedDevelopers() {
+        return dMakerService.getEmployedDevelopers(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto getDeveloperDetail() {
+        return dMakerService.getDeveloperDetail(nextMemberId());
+    }
+
+    @Benchmark
+    public List<DeveloperDto> listPageEntity() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(
+                        "select d from Developer d " +
+                                "where d.statusCode = :statusCode and d.id > :id " +
+                                "order by d.id", Developer.class)
+                .setParameter("statusCode", StatusCode.EMPLOYED)
+                .setParameter("id", 0L)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream().map(DeveloperDto::fromEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<DeveloperDto> listPageProjection() {
+        return readOnlyTransaction.execute(status -> developerRepository.findDeveloperDtosByStatusCode(
+                StatusCode.EMPLOYED, 0L, PageRequest.ofSize(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto detailEntity() {
+        String memberId = nextMemberId();
+        return readOnlyTransaction.execute(status -> DeveloperDetailDto.fromEntity(
+                developerRepository.findByMemberId(memberId).orElseThrow()));
+    }
+
+    @Benchmark
+    public DeveloperDetailDto detailProjection() {
+        String memberId = nextMemberId();
+        return readOnlyTransaction.execute(status ->
+                developerRepository.findDetailByMemberId(memberId).orElseThrow());
+    }
+}
@@ -0,0 +1,84 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperLevelBenchmark {
+
+    // 이전 구현(Function<Integer, Boolean>)과 비교하기 위한 규칙
+    private static final Function<Integer, Boolean>[] BOXED_RULES = boxedRules();
+
+    // 레벨별로 규칙에 맞는 연차 / 맞지 않는 연차
+    private final DeveloperLevel[] levels = {
+            DeveloperLevel.NEW, DeveloperLevel.JUNIOR, DeveloperLevel.JUNGNIOR, DeveloperLevel.SENIOR
+    };
+    private final int[] years = {0, 3, 7, 15};
+    private final int[] invalidYears = {1, 7, 12, 3};
+    private int index;
+
+    @SuppressWarnings("unchecked")
+    private static Function<Integer, Boolean>[] boxedRules() {
+        return new Function[]{
+                (Function<Integer, Boolean>) years -> years == 0,
+                (Function<Integer, Boolean>) years -> years <= 4,
+                (Function<Integer, Boolean>) years -> years > 4 && years < 10,
+                (Function<Integer, Boolean>) years -> years >= 10
+        };
+    }
+
+    @Benchmark
+    public void validateExperienceYears() {
+        int i = index++ & 3;
+        levels[i].validateExperienceYears(years[i]);
+    }
+
+    @Benchmark
+    public boolean isValidExperienceYears() {
+        int i = index++ & 3;
+        return levels[i].isValidExperienceYears(years[i]);
+    }
+
+    @Benchmark
+    public Boolean boxedFunction() {
+        int i = index++ & 3;
+        return BOXED_RULES[i].apply(years[i]);
+    }
+
+    // 검증 실패 비용: 예외(스택 없음) vs 결과 코드
+    @Benchmark
+    public DMakerErrorCode invalidWithException() {
+        int i = index++ & 3;
+        try {
+            levels[i].validateExperienceYears(invalidYears[i]);
+            return null;
+        } catch (DMakerException e) {
+            return e.getDMakerErrorCode();
+        }
+    }
+
+    @Benchmark
+    public DMakerErrorCode invalidWithResultCode() {
+        int i = index++ & 3;
+        return levels[i].isValidExperienceYears(invalidYears[i])
+                ? null : DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+    }
+
+    // 이전처럼 스택트레이스를 채우는 예외
+    @Benchmark
+    public RuntimeException stackTraceException() {
+        return new RuntimeException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED.getMessage());
+    }
+
+    @Benchmark
+    public RuntimeException stacklessException() {
+        return new DMakerException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
+    }
+}
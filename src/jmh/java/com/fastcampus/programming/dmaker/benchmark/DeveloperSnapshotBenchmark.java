@@ -0,0 +1,74 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.service.DeveloperSnapshotCodec;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 스냅샷 파일 쓰기/읽기 시간 (DB 조회는 제외하고 인코딩 + 파일 I/O 만 잰다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class DeveloperSnapshotBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    private List<DeveloperDetailDto> developers;
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        DeveloperLevel[] levels = DeveloperLevel.values();
+        DeveloperSkillType[] skillTypes = DeveloperSkillType.values();
+
+        developers = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            developers.add(DeveloperDetailDto.builder()
+                    .developerLevel(levels[i % levels.length])
+                    .developerSkillType(skillTypes[i % skillTypes.length])
+                    .experienceYears(i % 20)
+                    .memberId("member" + i)
+                    .name("name" + (i % 1000))
+                    .age(20 + i % 40)
+                    .statusCode(StatusCode.EMPLOYED)
+                    .version((long) (i % 5))
+                    .build());
+        }
+
+        path = Files.createTempFile("developer-detail", ".snapshot");
+        DeveloperSnapshotCodec.write(path, 0L, Instant.now(), developers.iterator());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        return DeveloperSnapshotCodec.write(path, 0L, Instant.now(), developers.iterator());
+    }
+
+    // 레코드는 순회할 때 읽으므로 끝까지 읽어야 전체 비용이 잡힌다.
+    @Benchmark
+    public void read(Blackhole blackhole) throws IOException {
+        DeveloperSnapshotCodec.Snapshot snapshot = DeveloperSnapshotCodec.open(path);
+        while (snapshot.hasNext()) {
+            blackhole.consume(snapshot.next());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Developer developer;
+
+    @Setup
+    public void setUp() {
+        developer = Developer.builder()
+                .id(1L)
+                .developerLevel(DeveloperLevel.SENIOR)
+                .developerSkillType(DeveloperSkillType.FRONT_END)
+                .experienceYears(12)
+                .memberId("memberId")
+                .name("name")
+                .age(32)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    @Benchmark
+    public DeveloperDto developerDtoFromEntity() {
+        return DeveloperDto.fromEntity(developer);
+    }
+
+    @Benchmark
+    public DeveloperDetailDto developerDetailDtoFromEntity() {
+        return DeveloperDetailDto.fromEntity(developer);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /developers 응답(List<DeveloperDto>) 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<DeveloperDto> developers;
+
+    @Setup
+    public void setUp() {
+        developers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            developers.add(DeveloperDto.builder()
+                    .id((long) i)
+                    .developerLevel(DeveloperLevel.JUNIOR)
+                    .developerSkillType(DeveloperSkillType.BACK_END)
+                    .memberId("memberId" + i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeDeveloperList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(developers);
+    }
+}
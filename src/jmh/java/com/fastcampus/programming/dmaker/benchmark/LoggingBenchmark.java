@@ -0,0 +1,82 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.fastcampus.programming.dmaker.config.RequestLogSamplingFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// 요청 스레드 여러 개가 컨트롤러 요청 로그를 남길 때의 처리량.
+// SYNC          : 기존처럼 요청 스레드에서 직접 출력 (appender 락 경합)
+// ASYNC         : AsyncAppender 큐에 넣고 반환 (prod 프로필)
+// ASYNC_SAMPLED : 여기에 요청 로그 1% 샘플링까지 적용 (prod 프로필 기본값)
+// 출력 대상은 버리는 스트림이라 실제 콘솔 I/O 비용은 빠져 있다. 실제 차이는 이보다 크다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LoggingBenchmark {
+
+    @Param({"SYNC", "ASYNC", "ASYNC_SAMPLED"})
+    public String mode;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        loggerContext = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %-5level [%thread] %logger - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(loggerContext);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if (!"SYNC".equals(mode)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(sink);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        if ("ASYNC_SAMPLED".equals(mode)) {
+            RequestLogSamplingFilter samplingFilter = new RequestLogSamplingFilter();
+            samplingFilter.setContext(loggerContext);
+            samplingFilter.setLoggerName("com.fastcampus.programming.dmaker.controller");
+            samplingFilter.setSampleRate(0.01);
+            samplingFilter.start();
+            loggerContext.addTurboFilter(samplingFilter);
+        }
+
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+        logger = loggerContext.getLogger(
+                "com.fastcampus.programming.dmaker.controller.DMakerController");
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void logRequest() {
+        logger.info("POST /create-developer HTTP/1.1 {}", "memberId=bench");
+    }
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.programming.dmaker.benchmark;
+
+import com.fastcampus.programming.dmaker.dto.BulkRetireDeveloper;
+import com.fastcampus.programming.dmaker.service.DMakerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 같은 수의 개발자를 deleteDeveloper 로 한 명씩 퇴직시키는 경우와
+// retireDevelopers 로 한 번에 퇴직시키는 경우를 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class RetireBenchmark {
+
+    @Param({"1000"})
+    public int developers;
+
+    private ConfigurableApplicationContext context;
+    private DMakerService dMakerService;
+    private List<String> memberIds;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        dMakerService = context.getBean(DMakerService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void seed() {
+        memberIds = BenchmarkApplication.seed(dMakerService, developers, "retire-" + round++ + "-");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int retireOneByOne() {
+        for (String memberId : memberIds) {
+            dMakerService.deleteDeveloper(memberId);
+        }
+        return memberIds.size();
+    }
+
+    @Benchmark
+    public BulkRetireDeveloper.Response retireInBulk() {
+        return dMakerService.retireDevelopers(memberIds);
+    }
+}
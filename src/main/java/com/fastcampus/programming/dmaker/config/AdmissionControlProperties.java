@@ -0,0 +1,52 @@
+package com.fastcampus.programming.dmaker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// dmaker.admission.* (WriteAdmissionInterceptor)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.admission")
+public class AdmissionControlProperties {
+    private boolean enabled = true;
+
+    // 클라이언트를 구분하는 헤더. trustedProxies 에서 온 요청일 때만 쓴다.
+    // 클라이언트가 직접 보낸 값을 믿으면 요청마다 값을 바꿔서 한도를 피할 수 있다.
+    private String clientIdHeader = "X-Client-Id";
+
+    // clientIdHeader 를 채워주는 게이트웨이 주소. 나머지 요청은 로그인 사용자 또는 remote address 로 구분한다.
+    private Set<String> trustedProxies = new HashSet<>();
+
+    // 버킷 최대 개수. 클라이언트가 많아도 메모리가 늘지 않게 넘으면 자주 쓰지 않는 버킷부터 지운다.
+    private long maxBuckets = 10000;
+
+    // 동시에 처리하는 쓰기 요청 수. 커넥션 풀보다 작게 두어 읽기 요청이 쓸 커넥션을 남긴다.
+    private int maxConcurrentWrites = 8;
+
+    // 가득 찬(오래 쓰지 않은) 버킷을 지우는 주기
+    private long bucketEvictionIntervalMs = 60000;
+
+    private Limit defaultLimit = new Limit();
+
+    // 엔드포인트별 한도. 키는 "METHOD 경로 패턴" (예: "POST /create-developers")
+    private Map<String, Limit> limits = new HashMap<>();
+
+    public Limit getLimit(String endpoint) {
+        return limits.getOrDefault(endpoint, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 한 번에 몰아서 보낼 수 있는 요청 수
+        private int capacity = 20;
+        // 초당 다시 채워지는 요청 수
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_DETAIL_CACHE;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${dmaker.cache.enabled}") boolean enabled,
+            @Value("${dmaker.cache.developer-detail.spec}") String developerDetailSpec,
+            @Value("${dmaker.cache.developer-detail.ttl}") Duration developerDetailTtl,
+            @Value("${dmaker.cache.developer-detail.warm-ttl}") Duration developerDetailWarmTtl
+    ) {
+        // 캐시 없이 DB 조회 비용만 잴 때(벤치마크) 끈다.
+        if (!enabled)
+            return new NoOpCacheManager();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(DEVELOPER_DETAIL_CACHE) {
+            @Override
+            protected Cache adaptCaffeineCache(
+                    String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache
+            ) {
+                return new DeveloperDetailCache(name, cache, isAllowNullValues(),
+                        developerDetailTtl, developerDetailWarmTtl);
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.from(developerDetailSpec)
+                .expireAfter(DeveloperDetailCache.expireAfterWrite(developerDetailTtl)));
+
+        // put/evict 를 트랜잭션 커밋 이후로 미룬다.
+        // 롤백되면 캐시를 건드리지 않고, 커밋 전에 다른 요청이 이전 값을 다시 캐싱하는 일도 줄어든다.
+        // 커밋 이후로 미룬 조회의 put 이 수정보다 늦게 도착하는 경우는 DeveloperDetailCache 가 막는다.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// dmaker.datasource.routing.enabled=true (replicas 프로필) 일 때
+// @Transactional(readOnly = true) 는 레플리카로, 나머지는 primary(spring.datasource.*) 로 보낸다.
+// 풀은 빈으로 등록하지 않고 직접 만들기 때문에 Hikari 지표(hikaricp.*{pool=...})도 여기서 연결한다.
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "dmaker.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties routingProperties,
+            Environment environment,
+            MeterRegistry meterRegistry
+    ) {
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = createPool(environment, ReplicaRoutingDataSource.PRIMARY,
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routingProperties.getReplicas().get(i);
+            HikariDataSource pool = createPool(environment, "replica-" + i,
+                    replica.getUrl(), replica.getUsername(), replica.getPassword());
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.add(pool);
+        }
+        log.info("datasource routing: primary + {} replicas", replicas.size());
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primary, replicas, routingProperties.getLagQuery(), routingProperties.getMaxLag());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = i;
+            Gauge.builder("dmaker.datasource.replica.healthy", routingDataSource,
+                            dataSource -> dataSource.isHealthy(index) ? 1 : 0)
+                    .description("레플리카로 읽기 요청을 보내는지 (지연 확인 결과)")
+                    .tag("pool", replicas.get(i).getPoolName())
+                    .register(meterRegistry);
+        }
+
+        return routingDataSource;
+    }
+
+    // readOnly 여부는 트랜잭션이 시작된 뒤에 정해지므로 첫 쿼리 때까지 커넥션을 빌리지 않는다.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // spring.datasource.hikari.* 를 공통 풀 설정으로 쓴다.
+    private static HikariDataSource createPool(
+            Environment environment, String poolName, String url, String username, String password
+    ) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        return pool;
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.programming.dmaker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// dmaker.datasource.routing.* (DataSourceRoutingConfig)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dmaker.datasource.routing")
+public class DataSourceRoutingProperties {
+    private boolean enabled;
+
+    // 읽기 전용 트랜잭션을 보낼 레플리카. 나머지 풀 설정은 spring.datasource.hikari.* 를 따른다.
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 레플리카 지연(초)을 돌려주는 쿼리. 없으면 연결만 확인한다.
+    // 예) MySQL: select coalesce(max(seconds_behind_master), 0) ... / PostgreSQL:
+    //     select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+    private String lagQuery;
+
+    // 이보다 지연된 레플리카로는 보내지 않는다. 모든 레플리카가 지연되면 primary 로 읽는다.
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private long lagCheckIntervalMs = 1000;
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
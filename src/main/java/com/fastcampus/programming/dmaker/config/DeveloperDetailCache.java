@@ -0,0 +1,85 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 개발자 상세 캐시 (CacheConfig). 이미 있는 값보다 version 이 높을 때만 덮어쓴다.
+// put 은 트랜잭션 커밋 이후에 실행되므로, 수정 커밋 전에 이전 값을 읽은 조회의 put 이
+// 수정이 넣은 새 값보다 늦게 도착할 수 있다. 그런 put 은 version 이 낮아서 무시된다.
+//
+// 캐시는 인스턴스마다 따로 있고, 다른 인스턴스에서 바뀐 값은 여기로 전달되지 않는다.
+// 그래서 한 값이 이전 값으로 남을 수 있는 최대 시간은 그 값의 만료 시간이다.
+public class DeveloperDetailCache extends CaffeineCache {
+    // 스냅샷 값도 일반 값보다 이 배수 이상 오래 두지 않는다.
+    public static final int MAX_WARM_TTL_FACTOR = 3;
+
+    private final Duration ttl;
+    private final Duration warmTtl;
+
+    public DeveloperDetailCache(
+            String name, Cache<Object, Object> cache, boolean allowNullValues, Duration ttl, Duration warmTtl
+    ) {
+        super(name, cache, allowNullValues);
+        if (warmTtl.compareTo(ttl.multipliedBy(MAX_WARM_TTL_FACTOR)) > 0)
+            throw new IllegalArgumentException("warm-ttl " + warmTtl + " exceeds "
+                    + MAX_WARM_TTL_FACTOR + " x ttl " + ttl);
+        this.ttl = ttl;
+        this.warmTtl = warmTtl.compareTo(ttl) < 0 ? ttl : warmTtl;
+    }
+
+    // 넣거나 바꾼 뒤 ttl 이 지나면 만료된다. (expireAfterWrite 와 같다)
+    // 값마다 만료 시간을 다르게 줄 수 있어야 putWarm 을 쓸 수 있어서 spec 대신 이것으로 만든다.
+    public static Expiry<Object, Object> expireAfterWrite(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        getNativeCache().asMap().merge(key, toStoreValue(value),
+                (current, candidate) -> isNewer(candidate, current) ? candidate : current);
+    }
+
+    // 스냅샷(DeveloperSnapshotService)으로 미리 채우는 값. 이미 있는 값은 덮어쓰지 않는다.
+    // ttl 로 넣으면 재시작하고 ttl 이 지나는 순간 한꺼번에 만료되어 조회가 DB 로 몰리므로
+    // ttl ~ warmTtl 사이로 나눠서 만료시킨다. 더 오래 두면 다른 인스턴스에서 바뀐 값을 그만큼 늦게 본다.
+    public void putWarm(Object key, Object value) {
+        long ttlNanos = ttl.toNanos();
+        Duration expiresAfter = Duration.ofNanos(ttlNanos
+                + ThreadLocalRandom.current().nextLong(warmTtl.toNanos() - ttlNanos + 1));
+        getNativeCache().policy().expireVariably().ifPresentOrElse(
+                expiration -> expiration.putIfAbsent(key, toStoreValue(value), expiresAfter),
+                () -> putIfAbsent(key, value));
+    }
+
+    // version 을 비교할 수 없으면 새 값으로 바꾼다.
+    private static boolean isNewer(Object candidate, Object current) {
+        if (!(candidate instanceof DeveloperDetailDto candidateDetail)
+                || !(current instanceof DeveloperDetailDto currentDetail)
+                || candidateDetail.getVersion() == null
+                || currentDetail.getVersion() == null)
+            return true;
+
+        return candidateDetail.getVersion() > currentDetail.getVersion();
+    }
+}
@@ -1,9 +1,10 @@
 package com.fastcampus.programming.dmaker.config;
 
-import org.springframework.beans.factory.annotation.Configurable;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@Configurable
+// @CreatedDate, @LastModifiedDate 를 채워준다. (퇴직 이력은 createdAt 으로 조회/아카이브한다)
+@Configuration
 @EnableJpaAuditing
 public class JpaConfig {
 }
@@ -0,0 +1,23 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.repository.ReactiveDeveloperRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// dmaker.reactive.enabled=true (reactive 프로필) 일 때 /reactive/** 읽기 API 를 R2DBC 로 제공한다.
+// 서블릿 스택은 그대로 두고 컨트롤러가 Flux/Mono 를 돌려주면 MVC 가 비동기로 처리한다.
+// 요청 스레드는 DB 응답을 기다리지 않고 바로 반환된다.
+@Configuration
+@ConditionalOnProperty(prefix = "dmaker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfig {
+
+    @Bean
+    public ReactiveDeveloperRepository reactiveDeveloperRepository(
+            @Value("${dmaker.reactive.r2dbc-url}") String url,
+            @Value("${dmaker.reactive.pool-max-size}") int poolMaxSize
+    ) {
+        return new ReactiveDeveloperRepository(url, poolMaxSize);
+    }
+}
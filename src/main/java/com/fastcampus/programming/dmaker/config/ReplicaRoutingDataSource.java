@@ -0,0 +1,119 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 레플리카로, 나머지는 primary 로 보낸다.
+// 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+// 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 때 커넥션을 고르게 해야 한다. (DataSourceRoutingConfig)
+//
+// 레플리카 읽기는 max-lag + 지연 확인 주기만큼 늦을 수 있다. 그래서 자기가 쓴 값을 바로 읽어야 하는 조회는 readOnly 로 두지 않는다.
+// - 캐시에 넣는 조회(상세 캐시, 재직자 목록 쿼리 캐시, /developers/all 목록)와 변경 이벤트 피드는 primary 에서 읽는다.
+// - 검색, 통계, 퇴직 이력, 스냅샷 쓰기처럼 캐시에 남기지 않는 조회만 레플리카로 보내고, 잠깐 이전 값을 볼 수 있다.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    // 지연 확인 결과. 확인 전에는 사용 가능한 것으로 본다.
+    // 확인할 때마다 배열을 새로 만들어 바꿔 끼우므로 요청 스레드는 락 없이 읽는다.
+    private volatile boolean[] healthy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            HikariDataSource primary,
+            List<HikariDataSource> replicas,
+            String lagQuery,
+            Duration maxLag
+    ) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.getSeconds();
+        this.healthy = new boolean[replicas.size()];
+        Arrays.fill(healthy, true);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (HikariDataSource replica : replicas) {
+            targetDataSources.put(replica.getPoolName(), replica);
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+            return PRIMARY;
+
+        // 사용 가능한 레플리카를 돌아가면서 고른다.
+        boolean[] healthy = this.healthy;
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (healthy[index])
+                return replicas.get(index).getPoolName();
+        }
+        return PRIMARY;
+    }
+
+    public boolean isHealthy(int index) {
+        return healthy[index];
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.datasource.routing.lag-check-interval-ms}")
+    public void checkReplicaLag() {
+        boolean[] checked = new boolean[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            checked[i] = isWithinMaxLag(replicas.get(i));
+            if (healthy[i] != checked[i])
+                log.warn("replica {} is now {}", replicas.get(i).getPoolName(),
+                        checked[i] ? "in service" : "out of service");
+        }
+        healthy = checked;
+    }
+
+    private boolean isWithinMaxLag(HikariDataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank())
+                return connection.isValid(1);
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                return resultSet.next() && resultSet.getLong(1) <= maxLagSeconds;
+            }
+        } catch (SQLException e) {
+            log.warn("replica {} lag check failed: {}", replica.getPoolName(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
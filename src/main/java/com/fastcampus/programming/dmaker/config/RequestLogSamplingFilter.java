@@ -0,0 +1,32 @@
+package com.fastcampus.programming.dmaker.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// loggerName 하위 로거의 INFO 로그(요청 로그)를 sampleRate 비율만큼만 남긴다.
+// TurboFilter 는 로깅 이벤트를 만들기 전에 동작하므로, 버려지는 로그는 포맷팅/큐잉 비용이 없다.
+// WARN 이상은 항상 남긴다. (logback-spring.xml 의 prod 프로필에서 사용)
+@Setter
+public class RequestLogSamplingFilter extends TurboFilter {
+    private String loggerName;
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(
+            Marker marker, Logger logger, Level level,
+            String format, Object[] params, Throwable t
+    ) {
+        if (level != Level.INFO || loggerName == null || !logger.getName().startsWith(loggerName))
+            return FilterReply.NEUTRAL;
+
+        return ThreadLocalRandom.current().nextDouble() < sampleRate
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fastcampus.programming.dmaker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+// 이벤트 compaction/SSE 폴링, 목록 갱신, 스냅샷, 레플리카 지연 확인, 버킷 정리, 퇴직 이력 보관 등
+// 스케줄러 스레드가 하나면 한 작업이 늦어질 때 나머지 작업도 모두 밀리므로 풀로 돌린다.
+// 오래 걸리거나 막힐 수 있는 작업(SSE 전송 등)은 각자의 실행기로 넘기고 스케줄러 스레드를 붙잡지 않는다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${dmaker.scheduling.pool-size}") int poolSize
+    ) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("dmaker-scheduling-");
+        return scheduler;
+    }
+}
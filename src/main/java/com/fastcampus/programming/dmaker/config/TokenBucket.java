@@ -0,0 +1,36 @@
+package com.fastcampus.programming.dmaker.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토큰 버킷. capacity 개까지 몰아서 쓸 수 있고 초당 refillPerSecond 개씩 다시 찬다.
+// 남은 토큰 수와 마지막 충전 시각 대신 "버킷이 다시 가득 차는 시각" 하나만 저장한다. (GCRA)
+// 값이 하나라서 잠그지 않고 CAS 한 번으로 갱신한다.
+public class TokenBucket {
+    private final long intervalNanos; // 토큰 하나가 다시 차는 시간
+    private final long burstNanos; // capacity 개가 다시 차는 시간
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    // 토큰을 얻으면 0, 못 얻으면 다음 토큰이 찰 때까지 남은 나노초
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0)
+                return waitNanos;
+            if (fullAt.compareAndSet(current, next))
+                return 0;
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.fastcampus.programming.dmaker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// dmaker.virtual-threads.enabled=true (virtual-threads 프로필) 일 때
+// Tomcat 요청 처리와 MVC 비동기 처리(StreamingResponseBody 등)를 가상 스레드에서 실행한다.
+// 요청 스레드에서 호출되는 DMakerService 의 트랜잭션도 그대로 가상 스레드에서 돈다.
+// 소스는 Java 17 로 컴파일하므로 Java 21 API 는 리플렉션으로 호출한다.
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "dmaker.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public ExecutorService virtualThreadExecutor() {
+        log.info("request execution: virtual threads");
+
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            ExecutorService virtualThreadExecutor
+    ) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor(
+            ExecutorService virtualThreadExecutor
+    ) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "dmaker.virtual-threads.enabled 는 Java 21 이상에서만 사용할 수 있습니다.", e);
+        }
+    }
+}
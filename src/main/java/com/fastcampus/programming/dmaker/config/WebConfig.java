@@ -0,0 +1,20 @@
+package com.fastcampus.programming.dmaker.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+    private final WriteAdmissionInterceptor writeAdmissionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(writeAdmissionInterceptor)
+                .excludePathPatterns("/actuator/**", "/h2-console/**");
+    }
+}
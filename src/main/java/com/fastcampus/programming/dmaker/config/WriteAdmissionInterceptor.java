@@ -0,0 +1,109 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+// 쓰기 요청(GET/HEAD/OPTIONS 외) 수락 제어 (WebConfig)
+// 1) 클라이언트 + 엔드포인트별 토큰 버킷으로 초과 요청은 TOO_MANY_REQUESTS
+//    클라이언트는 로그인 사용자, 믿을 수 있는 게이트웨이가 채운 헤더, remote address 순으로 구분한다.
+// 2) 동시에 처리 중인 쓰기 요청이 maxConcurrentWrites 이상이면 기다리지 않고 SERVICE_OVERLOADED
+// 대량으로 쓰는 클라이언트가 커넥션 풀을 다 써서 읽기 요청이 밀리지 않게 한다. 읽기 요청은 거치지 않는다.
+@Component
+public class WriteAdmissionInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = WriteAdmissionInterceptor.class.getName() + ".PERMIT";
+
+    private final AdmissionControlProperties properties;
+    private final Semaphore writePermits;
+    private final Cache<String, TokenBucket> buckets;
+
+    public WriteAdmissionInterceptor(AdmissionControlProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.writePermits = new Semaphore(properties.getMaxConcurrentWrites());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .build();
+
+        Gauge.builder("dmaker.admission.writes.in.flight", writePermits,
+                        permits -> properties.getMaxConcurrentWrites() - permits.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("dmaker.admission.buckets", buckets, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || isRead(request.getMethod()))
+            return true;
+
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+        AdmissionControlProperties.Limit limit = properties.getLimit(endpoint);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientId(request) + "|" + endpoint,
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0)
+            throw new DMakerException(DMakerErrorCode.TOO_MANY_REQUESTS, Duration.ofNanos(waitNanos));
+
+        if (!writePermits.tryAcquire())
+            throw new DMakerException(DMakerErrorCode.SERVICE_OVERLOADED);
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex
+    ) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            writePermits.release();
+        }
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 한도가 달라지지 않는다.
+    @Scheduled(fixedDelayString = "${dmaker.admission.bucket-eviction-interval-ms}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        buckets.asMap().values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    // /developer/{memberId} 처럼 경로 변수는 패턴으로 묶는다.
+    private static String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    // 종류별로 접두어를 붙여서 헤더 값이 다른 클라이언트의 주소와 겹치지 않게 한다.
+    private String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null)
+            return "user:" + principal.getName();
+
+        String remoteAddr = request.getRemoteAddr();
+        if (properties.getTrustedProxies().contains(remoteAddr)) {
+            String clientId = request.getHeader(properties.getClientIdHeader());
+            if (clientId != null && !clientId.isBlank())
+                return "client:" + clientId;
+        }
+        return "addr:" + remoteAddr;
+    }
+}
@@ -1,6 +1,19 @@
 package com.fastcampus.programming.dmaker.constant;
 
 public class DMakerConstant {
-    public static final Integer MIN_SENIOR_EXPERIENCE_YEARS = 10;
-    public static final Integer MAX_JUNIOR_EXPERIENCE_YEARS = 4;
+    public static final int MIN_EXPERIENCE_YEARS = 0;
+    public static final int MAX_EXPERIENCE_YEARS = Integer.MAX_VALUE;
+    public static final int MIN_SENIOR_EXPERIENCE_YEARS = 10;
+    public static final int MAX_JUNIOR_EXPERIENCE_YEARS = 4;
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    // offset(page * size)이 int 를 넘지 않고, 너무 깊은 offset 스캔도 막는다.
+    public static final int MAX_SEARCH_PAGE = 1000;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String DEVELOPER_DETAIL_CACHE = "developerDetail";
+
+    public static final int MAX_BULK_SIZE = 5000;
+    public static final int IN_QUERY_CHUNK_SIZE = 1000;
 }
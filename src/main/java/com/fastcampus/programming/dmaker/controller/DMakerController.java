@@ -1,27 +1,71 @@
 package com.fastcampus.programming.dmaker.controller;
 
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.BulkRetireDeveloper;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperETag;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventPage;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearch;
+import com.fastcampus.programming.dmaker.dto.DeveloperStatistics;
 import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.dto.RetiredDeveloperDto;
+import com.fastcampus.programming.dmaker.dto.RetiredDeveloperPage;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
 import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.service.DeveloperDetailLoader;
+import com.fastcampus.programming.dmaker.service.DeveloperEventService;
+import com.fastcampus.programming.dmaker.service.DeveloperEventStream;
+import com.fastcampus.programming.dmaker.service.DeveloperListView;
+import com.fastcampus.programming.dmaker.service.DeveloperStatisticsService;
+import com.fastcampus.programming.dmaker.service.RetiredDeveloperService;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.NEXT_CURSOR_HEADER;
+
 @Slf4j
 @RestController // 스프링 프레임워크의 어노테이션, 해당 클래스를 RestController 타입의 Bean으로 등록. Controller에 ResponseBody를 더해준다.
 @RequiredArgsConstructor
+@Timed("dmaker.controller") // 메서드별(class, method 태그) 처리 시간, 분포 설정은 application.yml
 public class DMakerController {
 
     private final DMakerService dMakerService;
+    private final DeveloperStatisticsService developerStatisticsService;
+    private final DeveloperEventService developerEventService;
+    private final DeveloperEventStream developerEventStream;
+    private final RetiredDeveloperService retiredDeveloperService;
+    private final DeveloperListView developerListView;
+    private final DeveloperDetailLoader developerDetailLoader;
+    private final ObjectMapper objectMapper;
 
     // Controller : 사용자의 입력을 최초로 받아들이는 위치.
     @GetMapping("/developers") // /developers 로 요청이 오는 경우
-    public List<DeveloperDto> getAllDevelopers() {
+    public ResponseEntity<List<DeveloperDto>> getAllDevelopers(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size
+    ) {
         // 직접 Entity를 그대로 쓰지 않는 이유는
         // 불필요한 정보가 나갈 수도 있고,
         // 정보에 접근할 때 정보가 충분하지 않은 경우 오류가 발생할 수 있기 때문.
@@ -29,16 +73,158 @@ public class DMakerController {
         log.info("GET /developers HTTP/1.1");
 
 //        return Arrays.asList("snow", "Elsa", "Olaf");
-        return dMakerService.getAllEmployedDevelopers();
+        DeveloperPage page = dMakerService.getEmployedDevelopers(cursor, size);
+
+        // 응답 바디는 기존처럼 배열로 두고, 다음 페이지 커서는 헤더로 내려준다.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNext() != null)
+            response.header(NEXT_CURSOR_HEADER, page.getNext());
+
+        return response.body(page.getDevelopers());
+    }
+
+    // 전체 목록이 필요한 경우 페이지 단위로 읽어서 한 줄에 한 건씩(NDJSON) 흘려보낸다.
+    // 한 번에 한 페이지만 메모리에 있으므로 개발자 수와 관계없이 메모리 사용량이 일정하다.
+    @GetMapping(value = "/developers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDevelopers() {
+        log.info("GET /developers/stream HTTP/1.1");
+
+        StreamingResponseBody body = outputStream -> {
+            String cursor = null;
+            do {
+                DeveloperPage page = dMakerService.getEmployedDevelopers(cursor, MAX_PAGE_SIZE);
+                for (DeveloperDto developer : page.getDevelopers()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(developer));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                cursor = page.getNext();
+            } while (cursor != null);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 재직 중인 개발자 전체 목록을 미리 직렬화해 둔 바이트 그대로 내려준다. (DeveloperListView)
+    // gzip 을 받는 클라이언트에는 미리 압축해 둔 바이트를 내려준다.
+    // If-None-Match 가 ETag 와 같으면 304 로 응답한다.
+    @GetMapping("/developers/all")
+    public ResponseEntity<byte[]> getAllEmployedDevelopers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        log.info("GET /developers/all HTTP/1.1");
+
+        DeveloperListView.Encoded list = developerListView.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding))
+            return response.eTag(list.getGzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(list.getGzip());
+
+        return response.eTag(list.getETag())
+                .body(list.getJson());
+    }
+
+    // Accept-Encoding 에서 gzip 의 q 값이 0 보다 큰지 본다. (gzip;q=0 은 거절이다)
+    // gzip 이 없으면 * 의 q 값을 따르고, 둘 다 없으면 압축하지 않는다.
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return false;
+
+        double gzip = -1;
+        double any = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim();
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip"))
+                gzip = q;
+            else if (coding.equals("*"))
+                any = q;
+        }
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    // 레벨/스킬/연차 조건으로 서버에서 걸러서 페이지 단위로 내려준다.
+    @GetMapping("/developers/search")
+    public DeveloperSearch.Response searchDevelopers(
+            @Valid @ModelAttribute final DeveloperSearch.Request request
+    ) {
+        log.info("GET /developers/search HTTP/1.1 {}", kv("condition", request));
+
+        return dMakerService.searchDevelopers(request);
+    }
+
+    // 변경 이벤트 피드. 전체 목록을 다시 읽지 않고 커서 이후의 변경만 읽어간다.
+    // 새 이벤트가 없어도 다음 커서는 항상 헤더로 내려준다.
+    @GetMapping("/developer-events")
+    public ResponseEntity<List<DeveloperEventDto>> getDeveloperEvents(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size
+    ) {
+        log.info("GET /developer-events HTTP/1.1");
+
+        DeveloperEventPage page = developerEventService.getEvents(cursor, size);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, page.getNext())
+                .body(page.getEvents());
+    }
+
+    // 변경 이벤트를 SSE 로 받는다. 재연결할 때는 Last-Event-ID 가 커서보다 우선한다.
+    @GetMapping(value = "/developer-events/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDeveloperEvents(
+            @RequestParam(required = false) final String cursor,
+            @RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId
+    ) {
+        log.info("GET /developer-events/stream HTTP/1.1");
+
+        return developerEventStream.subscribe(lastEventId != null ? lastEventId : cursor);
+    }
+
+    // 조합별 개발자 수 (미리 집계된 값)
+    @GetMapping("/developers/statistics")
+    public DeveloperStatistics getDeveloperStatistics(
+            @RequestParam(required = false) final StatusCode statusCode,
+            @RequestParam(required = false) final DeveloperLevel developerLevel,
+            @RequestParam(required = false) final DeveloperSkillType developerSkillType
+    ) {
+        log.info("GET /developers/statistics HTTP/1.1");
+
+        return developerStatisticsService.getStatistics(statusCode, developerLevel, developerSkillType);
     }
 
+    @PostMapping("/developers/statistics/recompute")
+    public DeveloperStatistics recomputeDeveloperStatistics() {
+        log.info("POST /developers/statistics/recompute HTTP/1.1");
+
+        return developerStatisticsService.recompute();
+    }
+
+    // If-None-Match 가 ETag 와 같으면 HttpEntityMethodProcessor 가 본문 없이 304 로 응답한다.
     @GetMapping("/developer/{memberId}")
-    public DeveloperDetailDto getAllDeveloperDetail(
+    public ResponseEntity<DeveloperDetailDto> getAllDeveloperDetail(
             @PathVariable final String memberId // 경로의 {}안에 표시할 변수값
     ) {
-        log.info("GET /developers HTTP/1.1");
+        log.info("GET /developer/{memberId} HTTP/1.1 {}", kv("memberId", memberId));
 
-        return dMakerService.getDeveloperDetail(memberId);
+        // 같은 memberId 로 동시에 들어온 요청은 조회를 한 번만 한다.
+        return withETag(developerDetailLoader.load(memberId));
     }
 
     @PostMapping("/create-developer")
@@ -46,25 +232,98 @@ public class DMakerController {
             // 앞의 자바 빈 발리데이션이 동작하려면 Valid가 있어야 한다.
             @Valid @RequestBody final CreateDeveloper.Request request
             ) {
-        log.info("Request : {}", request);
+        log.info("POST /create-developer HTTP/1.1 {}", kv("memberId", request.getMemberId()));
 
         return dMakerService.createDeveloper(request);
     }
 
+    @PostMapping("/create-developers")
+    public BulkCreateDeveloper.Response createDevelopersInBulk(
+            @Valid @RequestBody final BulkCreateDeveloper.Request request
+    ) {
+        log.info("POST /create-developers HTTP/1.1 {}", kv("size", request.getDevelopers().size()));
+
+        return dMakerService.createDevelopers(request.getDevelopers());
+    }
+
+    // 저장하지 않고 항목별 검증 결과만 돌려준다.
+    @PostMapping("/validate-developers")
+    public ValidateDevelopers.Response validateDevelopers(
+            @Valid @RequestBody final ValidateDevelopers.Request request
+    ) {
+        log.info("POST /validate-developers HTTP/1.1 {} {}",
+                kv("creates", request.getCreates() == null ? 0 : request.getCreates().size()),
+                kv("edits", request.getEdits() == null ? 0 : request.getEdits().size()));
+
+        return dMakerService.validateDevelopers(request.getCreates(), request.getEdits());
+    }
+
+    // If-Match 가 있으면 그 버전일 때만 수정한다. (없거나 * 이면 확인하지 않음)
     @PutMapping("/developer/{memberId}")
-    public DeveloperDetailDto editDeveloper(
+    public ResponseEntity<DeveloperDetailDto> editDeveloper(
             @PathVariable final String memberId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @Valid @RequestBody final EditDeveloper.Request request
     ) {
-        log.info("GET /developers HTTP/1.1");
+        log.info("PUT /developer/{memberId} HTTP/1.1 {}", kv("memberId", memberId));
+
+        return withETag(dMakerService.editDeveloper(memberId, DeveloperETag.parse(ifMatch), request));
+    }
 
-        return dMakerService.editDeveloper(memberId, request);
+    private static ResponseEntity<DeveloperDetailDto> withETag(DeveloperDetailDto developerDetail) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (developerDetail.getVersion() != null)
+            response.eTag(DeveloperETag.of(developerDetail.getVersion()));
+        return response.body(developerDetail);
     }
 
     @DeleteMapping("/developer/{memberId}")
     public DeveloperDetailDto deleteDeveloper(
             @PathVariable final String memberId
     ) {
+        log.info("DELETE /developer/{memberId} HTTP/1.1 {}", kv("memberId", memberId));
+
         return dMakerService.deleteDeveloper(memberId);
     }
+
+    // [from, to) 기간의 퇴직 이력 (yyyy-MM-dd)
+    @GetMapping("/retired-developers")
+    public ResponseEntity<List<RetiredDeveloperDto>> getRetiredDevelopers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size
+    ) {
+        log.info("GET /retired-developers HTTP/1.1 {} {}", kv("from", from), kv("to", to));
+
+        return withNextCursor(retiredDeveloperService.getRetiredDevelopers(from, to, cursor, size));
+    }
+
+    @GetMapping("/retired-developers/{memberId}")
+    public ResponseEntity<List<RetiredDeveloperDto>> getRetirementsByMemberId(
+            @PathVariable final String memberId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size
+    ) {
+        log.info("GET /retired-developers/{memberId} HTTP/1.1 {}", kv("memberId", memberId));
+
+        return withNextCursor(retiredDeveloperService.getRetirementsByMemberId(memberId, cursor, size));
+    }
+
+    private static ResponseEntity<List<RetiredDeveloperDto>> withNextCursor(RetiredDeveloperPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNext() != null)
+            response.header(NEXT_CURSOR_HEADER, page.getNext());
+
+        return response.body(page.getDevelopers());
+    }
+
+    @PostMapping("/retire-developers")
+    public BulkRetireDeveloper.Response retireDevelopers(
+            @Valid @RequestBody final BulkRetireDeveloper.Request request
+    ) {
+        log.info("POST /retire-developers HTTP/1.1 {}", kv("size", request.getMemberIds().size()));
+
+        return dMakerService.retireDevelopers(request.getMemberIds());
+    }
 }
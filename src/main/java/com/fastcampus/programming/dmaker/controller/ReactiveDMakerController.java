@@ -0,0 +1,59 @@
+package com.fastcampus.programming.dmaker.controller;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.service.ReactiveDMakerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.NEXT_CURSOR_HEADER;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+// DMakerController 의 읽기 API 와 같은 응답을 R2DBC 로 만든다. (reactive 프로필)
+@Slf4j
+@RestController
+@RequestMapping("/reactive")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "dmaker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveDMakerController {
+    private final ReactiveDMakerService reactiveDMakerService;
+
+    // NDJSON 으로 한 줄씩 흘려보낸다.
+    // size 가 없으면 끝까지 보낸다. 클라이언트가 느리면 다음 페이지를 읽지 않고 기다린다.
+    // size 가 있으면 한 페이지만 보내고, 다음 페이지 커서는 /developers 처럼 헤더로 내려준다.
+    // (헤더를 먼저 보내야 하므로 그 페이지를 다 읽은 뒤에 응답을 시작한다)
+    @GetMapping(value = "/developers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<DeveloperDto>>> getAllDevelopers(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer size
+    ) {
+        log.info("GET /reactive/developers HTTP/1.1");
+
+        if (size == null)
+            return Mono.just(ResponseEntity.ok(reactiveDMakerService.streamEmployedDevelopers(cursor)));
+
+        return reactiveDMakerService.getEmployedDevelopers(cursor, size)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.getNext() != null)
+                        response.header(NEXT_CURSOR_HEADER, page.getNext());
+
+                    return response.body(Flux.fromIterable(page.getDevelopers()));
+                });
+    }
+
+    @GetMapping("/developer/{memberId}")
+    public Mono<DeveloperDetailDto> getDeveloperDetail(
+            @PathVariable final String memberId
+    ) {
+        log.info("GET /reactive/developer/{memberId} HTTP/1.1 {}", kv("memberId", memberId));
+
+        return reactiveDMakerService.getDeveloperDetail(memberId);
+    }
+}
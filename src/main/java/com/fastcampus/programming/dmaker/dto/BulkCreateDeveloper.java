@@ -0,0 +1,46 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_BULK_SIZE;
+
+public class BulkCreateDeveloper {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request { // 개발자 일괄 생성에 대한 요청
+        // 각 항목의 검증은 항목별 결과로 내려주기 위해 서비스에서 따로 한다.
+        @NotEmpty
+        @Size(max = MAX_BULK_SIZE)
+        private List<CreateDeveloper.Request> developers;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response { // 개발자 일괄 생성에 대한 응답
+        private int createdCount;
+        private List<Result> results;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result { // 요청 순서(index)별 처리 결과
+        private int index;
+        private String memberId;
+        private boolean created;
+        private DMakerErrorCode errorCode;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_BULK_SIZE;
+
+public class BulkRetireDeveloper {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class Request { // 개발자 일괄 퇴직에 대한 요청
+        @NotEmpty
+        @Size(max = MAX_BULK_SIZE)
+        private List<@NotBlank String> memberIds;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response { // 개발자 일괄 퇴직에 대한 응답
+        private int retiredCount;
+        private List<String> notFoundMemberIds; // 없거나 이미 퇴직한 개발자
+    }
+}
@@ -4,6 +4,7 @@ import com.fastcampus.programming.dmaker.code.StatusCode;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -19,6 +20,8 @@ public class DeveloperDetailDto {
     private String name;
     private Integer age;
     private StatusCode statusCode;
+    @JsonIgnore // 본문 대신 ETag 헤더로 내려준다.
+    private Long version;
 
     public static DeveloperDetailDto fromEntity(Developer developer) {
         return DeveloperDetailDto.builder()
@@ -29,6 +32,7 @@ public class DeveloperDetailDto {
                 .name(developer.getName())
                 .age(developer.getAge())
                 .statusCode(developer.getStatusCode())
+                .version(developer.getVersion())
                 .build();
     }
 }
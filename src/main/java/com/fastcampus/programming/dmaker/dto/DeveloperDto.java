@@ -3,6 +3,7 @@ package com.fastcampus.programming.dmaker.dto;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 @Getter
@@ -12,6 +13,8 @@ import lombok.*;
 @Builder
 @ToString
 public class DeveloperDto {
+    @JsonIgnore // 페이지 커서를 만들 때만 쓰고 응답에는 내보내지 않는다.
+    private Long id;
     private DeveloperLevel developerLevel;
     private DeveloperSkillType developerSkillType;
     private String memberId;
@@ -19,6 +22,7 @@ public class DeveloperDto {
     // Dto로부터 Entity를 만들어주는 메서드
     public static DeveloperDto fromEntity(Developer developer) {
         return DeveloperDto.builder()
+                .id(developer.getId())
                 .developerLevel(developer.getDeveloperLevel())
                 .developerSkillType(developer.getDeveloperSkillType())
                 .memberId(developer.getMemberId())
@@ -0,0 +1,34 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+
+// Developer 의 @Version 값을 그대로 ETag 로 쓴다. ("3" 형태의 strong ETag)
+// 버전은 수정될 때마다 올라가므로 같은 ETag 면 내용도 같다.
+public class DeveloperETag {
+    private static final String ANY = "*";
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-Match 헤더의 버전. 없거나 * 이면 버전을 확인하지 않도록 null 을 돌려준다.
+    public static Long parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank())
+            return null;
+
+        String eTag = ifMatch.trim();
+        if (ANY.equals(eTag))
+            return null;
+
+        // If-Match 는 strong 비교만 하므로 W/ 로 시작하는 weak ETag 는 받지 않는다.
+        if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\""))
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 If-Match 헤더입니다.");
+
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 If-Match 헤더입니다.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 변경 이벤트 피드의 커서. 피드는 (createdAt, id) 순서로 읽는다. (DeveloperEventService 참고)
+// id 는 pooled 시퀀스라 커밋 순서와 다를 수 있어서 id 만으로는 이어 읽을 수 없다.
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DeveloperEventCursor {
+    private static final char SEPARATOR = '_';
+    public static final DeveloperEventCursor FIRST =
+            new DeveloperEventCursor(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public static DeveloperEventCursor of(DeveloperEventDto event) {
+        return new DeveloperEventCursor(event.getCreatedAt(), event.getId());
+    }
+
+    public boolean isFirst() {
+        return FIRST.equals(this);
+    }
+
+    public boolean isAfter(DeveloperEventCursor other) {
+        int compared = createdAt.compareTo(other.createdAt);
+        return compared > 0 || (compared == 0 && id > other.id);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DeveloperEventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return FIRST;
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new DeveloperEventCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
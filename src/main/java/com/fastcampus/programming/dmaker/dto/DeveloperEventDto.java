@@ -0,0 +1,46 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class DeveloperEventDto {
+    @JsonIgnore // 피드 커서를 만들 때만 쓰고 응답에는 내보내지 않는다.
+    private Long id;
+    private DeveloperEventType eventType;
+    private String memberId;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Integer experienceYears;
+    private String name;
+    private Integer age;
+    private StatusCode statusCode;
+    private LocalDateTime createdAt;
+
+    public static DeveloperEventDto fromEntity(DeveloperEvent event) {
+        return DeveloperEventDto.builder()
+                .id(event.getId())
+                .eventType(event.getEventType())
+                .memberId(event.getMemberId())
+                .developerLevel(event.getDeveloperLevel())
+                .developerSkillType(event.getDeveloperSkillType())
+                .experienceYears(event.getExperienceYears())
+                .name(event.getName())
+                .age(event.getAge())
+                .statusCode(event.getStatusCode())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperEventPage {
+    private List<DeveloperEventDto> events;
+    // 다음 요청에 넘길 커서. 새 이벤트가 없어도 읽을 수 있는 경계까지 옮겨서 돌려준다.
+    private String next;
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.entity.DeveloperHeadcount;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperHeadcountDto {
+    private StatusCode statusCode;
+    private DeveloperLevel developerLevel;
+    private DeveloperSkillType developerSkillType;
+    private Long headcount;
+
+    public static DeveloperHeadcountDto fromEntity(DeveloperHeadcount developerHeadcount) {
+        return DeveloperHeadcountDto.builder()
+                .statusCode(developerHeadcount.getStatusCode())
+                .developerLevel(developerHeadcount.getDeveloperLevel())
+                .developerSkillType(developerHeadcount.getDeveloperSkillType())
+                .headcount(developerHeadcount.getHeadcount())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperPage {
+    private List<DeveloperDto> developers;
+    private String next; // 다음 페이지 커서, 마지막 페이지면 null
+}
@@ -0,0 +1,60 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fastcampus.programming.dmaker.type.DeveloperSortType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_SEARCH_PAGE;
+
+public class DeveloperSearch {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class Request { // 개발자 검색 조건, 값이 없는 조건은 적용하지 않는다.
+        private StatusCode statusCode; // 없으면 EMPLOYED
+        private DeveloperLevel developerLevel;
+        private DeveloperSkillType developerSkillType;
+
+        @Min(0)
+        @Max(20)
+        private Integer minExperienceYears;
+
+        @Min(0)
+        @Max(20)
+        private Integer maxExperienceYears;
+
+        private DeveloperSortType sort; // 없으면 ID
+        private Sort.Direction direction; // 없으면 ASC
+
+        @Min(0)
+        @Max(MAX_SEARCH_PAGE)
+        private Integer page;
+
+        @Min(1)
+        @Max(MAX_PAGE_SIZE)
+        private Integer size;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response { // 개발자 검색 결과
+        private List<DeveloperDto> developers;
+        private int page;
+        private int size;
+        private boolean hasNext;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeveloperStatistics {
+    private long total; // 조건에 맞는 조합의 합계
+    private List<DeveloperHeadcountDto> headcounts;
+}
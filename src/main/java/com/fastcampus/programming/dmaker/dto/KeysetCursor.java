@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 마지막으로 내려준 id를 클라이언트가 해석하지 않도록 감싸는 커서.
+// id > cursor 조건으로 다음 페이지를 읽기 때문에 offset 방식과 달리 뒤 페이지로 갈수록 느려지지 않는다.
+public class KeysetCursor {
+    private static final long FIRST = 0L;
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return FIRST;
+
+        try {
+            return Long.parseLong(new String(
+                    Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
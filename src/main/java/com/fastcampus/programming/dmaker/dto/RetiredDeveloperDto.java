@@ -0,0 +1,30 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class RetiredDeveloperDto {
+    @JsonIgnore // 페이지 커서를 만들 때만 쓰고 응답에는 내보내지 않는다.
+    private Long id;
+    private String memberId;
+    private String name;
+    private LocalDateTime retiredAt;
+
+    public static RetiredDeveloperDto fromEntity(RetiredDeveloper retiredDeveloper) {
+        return RetiredDeveloperDto.builder()
+                .id(retiredDeveloper.getId())
+                .memberId(retiredDeveloper.getMemberId())
+                .name(retiredDeveloper.getName())
+                .retiredAt(retiredDeveloper.getCreatedAt())
+                .build();
+    }
+}
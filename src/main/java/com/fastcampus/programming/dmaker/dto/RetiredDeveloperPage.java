@@ -0,0 +1,16 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RetiredDeveloperPage {
+    private List<RetiredDeveloperDto> developers;
+    // 다음 페이지가 없으면 null
+    private String next;
+}
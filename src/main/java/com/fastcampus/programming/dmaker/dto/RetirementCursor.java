@@ -0,0 +1,42 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 기간별 퇴직 이력의 커서. (createdAt, id) 순서로 읽기 때문에 두 값을 함께 감싼다. (KeysetCursor 참고)
+@Getter
+@AllArgsConstructor
+public class RetirementCursor {
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public static RetirementCursor first(LocalDateTime from) {
+        return new RetirementCursor(from, 0L);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RetirementCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new RetirementCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.programming.dmaker.dto;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_BULK_SIZE;
+
+public class ValidateDevelopers {
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request { // 저장하지 않고 검증만 하는 요청
+        // 각 항목의 검증은 항목별 결과로 내려주기 위해 서비스에서 따로 한다.
+        @Size(max = MAX_BULK_SIZE)
+        private List<CreateDeveloper.Request> creates;
+        @Size(max = MAX_BULK_SIZE)
+        private List<Edit> edits;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Edit { // PUT /developer/{memberId} 한 건에 해당한다.
+        private String memberId;
+        private EditDeveloper.Request developer;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private int invalidCount;
+        private List<Result> creates;
+        private List<Result> edits;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result { // 요청 순서(index)별 검증 결과
+        private int index;
+        private String memberId;
+        private boolean valid;
+        private DMakerErrorCode errorCode;
+    }
+}
@@ -6,6 +6,11 @@ import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,10 +23,27 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_developer_status_code", columnList = "statusCode, id"),
+        // 검색(DeveloperRepositoryCustom.search)에서 자주 쓰는 조건 조합
+        @Index(name = "ix_developer_status_level_skill_years",
+                columnList = "statusCode, developerLevel, developerSkillType, experienceYears"),
+        @Index(name = "ix_developer_status_skill_years",
+                columnList = "statusCode, developerSkillType, experienceYears"),
+        @Index(name = "ix_developer_status_years", columnList = "statusCode, experienceYears")
+})
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate // 수정할 때 바뀐 컬럼만 update 한다.
+// 2차 캐시. memberId -> id 도 캐시해서 findByNaturalId 는 캐시에 있으면 SQL 없이 끝난다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "developer")
+@NaturalIdCache(region = "developer-natural-id")
 public class Developer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼진다.
+    // 시퀀스를 allocationSize 만큼 미리 받아두는(pooled) 방식으로 배치 insert 를 가능하게 한다.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_seq")
+    @SequenceGenerator(name = "developer_seq", sequenceName = "developer_seq", allocationSize = 50)
     protected Long id;
 
     @Enumerated(EnumType.STRING)
@@ -31,6 +53,9 @@ public class Developer {
     private DeveloperSkillType developerSkillType;
 
     private Integer experienceYears;
+    // @NaturalId 가 memberId 유니크 제약을 만든다. 같은 컬럼에 인덱스를 따로 두지 않는다.
+    // memberId 중복 검사는 이 제약에 맡긴다. (DMakerService.createDeveloper)
+    @NaturalId
     private String memberId;
     private String name;
     private Integer age;
@@ -38,6 +63,10 @@ public class Developer {
     @Enumerated(EnumType.STRING)
     private StatusCode statusCode;
 
+    // 낙관적 락. 동시에 수정하면 나중에 커밋하는 쪽이 실패한다. (ETag 로도 내려준다)
+    @Version
+    private Long version;
+
     @CreatedDate // 자동으로 값을 세팅해준다.
     private LocalDateTime createdAt;
 
@@ -0,0 +1,52 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 개발자 변경 이벤트 (transactional outbox)
+// 변경과 같은 트랜잭션에서 저장되고, (createdAt, id) 순서가 곧 피드의 순서다.
+// id 는 pooled 시퀀스에서 insert 시점에 받기 때문에 커밋 순서와 다를 수 있다.
+// 이벤트마다 변경 후의 상태 전체를 담기 때문에 같은 memberId 의 이전 이벤트는 지워도 된다. (compaction)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "ix_developer_event_member_id", columnList = "memberId, id"),
+        @Index(name = "ix_developer_event_created_at", columnList = "createdAt, id")
+})
+public class DeveloperEvent {
+    @Id
+    // 일괄 생성/퇴직 시 배치 insert 를 위해 pooled 시퀀스를 사용한다. (Developer 참고)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developer_event_seq")
+    @SequenceGenerator(name = "developer_event_seq", sequenceName = "developer_event_seq", allocationSize = 50)
+    protected Long id;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperEventType eventType;
+
+    private String memberId;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private Integer experienceYears;
+    private String name;
+    private Integer age;
+
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.*;
+import lombok.*;
+
+// (상태, 레벨, 스킬) 조합별 개발자 수.
+// 개발자 생성/수정/퇴직 트랜잭션 안에서 증감된다. (DeveloperStatisticsService)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "ux_developer_headcount",
+                columnNames = {"statusCode", "developerLevel", "developerSkillType"})
+})
+public class DeveloperHeadcount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    protected Long id;
+
+    @Enumerated(EnumType.STRING)
+    private StatusCode statusCode;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperLevel developerLevel;
+
+    @Enumerated(EnumType.STRING)
+    private DeveloperSkillType developerSkillType;
+
+    private long headcount;
+}
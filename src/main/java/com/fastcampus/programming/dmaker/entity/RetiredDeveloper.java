@@ -4,6 +4,8 @@ import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,18 +18,43 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        // memberId 별 이력, 기간별 이력을 keyset 으로 읽는다. (RetiredDeveloperRepository)
+        @Index(name = "ix_retired_developer_member_id", columnList = "memberId, id"),
+        @Index(name = "ix_retired_developer_created_at", columnList = "createdAt, id"),
+        @Index(name = "ix_retired_developer_retired_month", columnList = "retiredMonth")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "retired-developer")
 public class RetiredDeveloper {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일괄 퇴직 시 배치 insert 를 위해 pooled 시퀀스를 사용한다. (Developer 참고)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "retired_developer_seq")
+    @SequenceGenerator(name = "retired_developer_seq", sequenceName = "retired_developer_seq", allocationSize = 50)
     protected Long id;
 
     private String memberId;
     private String name;
 
+    // 퇴직한 월(yyyyMM) 버킷. 오래된 버킷은 RetiredDeveloperArchive 로 통째로 옮긴다.
+    private Integer retiredMonth;
+
     @CreatedDate // 자동으로 값을 세팅해준다.
     private LocalDateTime createdAt;
 
     @LastModifiedDate // 자동으로 이것들을 저장해주기 위해서는 Application에 @EnableJpaAuditing 를 추가한다.
     private LocalDateTime updatedAt;
+
+    // AuditingEntityListener 가 createdAt 을 채운 뒤에 호출된다.
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null)
+            createdAt = LocalDateTime.now();
+        retiredMonth = toRetiredMonth(createdAt);
+    }
+
+    public static int toRetiredMonth(LocalDateTime dateTime) {
+        return dateTime.getYear() * 100 + dateTime.getMonthValue();
+    }
 }
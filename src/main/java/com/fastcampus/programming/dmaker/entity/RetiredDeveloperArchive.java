@@ -0,0 +1,29 @@
+package com.fastcampus.programming.dmaker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 퇴직 이력. RetiredDeveloperService.archive 가 월 단위로 옮겨온다.
+// id 는 RetiredDeveloper 의 id 를 그대로 쓴다.
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "ix_retired_developer_archive_member_id", columnList = "memberId, id"),
+        @Index(name = "ix_retired_developer_archive_retired_month", columnList = "retiredMonth")
+})
+public class RetiredDeveloperArchive {
+    @Id
+    protected Long id;
+
+    private String memberId;
+    private String name;
+    private Integer retiredMonth;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
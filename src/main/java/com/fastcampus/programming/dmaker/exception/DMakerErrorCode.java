@@ -2,18 +2,28 @@ package com.fastcampus.programming.dmaker.exception;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
 @AllArgsConstructor
 public enum DMakerErrorCode {
-    NO_DEVELOPER("해당되는 개발자가 없습니다."),
-    DUPLICATED_MEMBER_ID("MemberId가 중복되는 개발자가 있습니다."),
-    LEVEL_EXPERIENCE_YEARS_NOT_MATCHED("개발자 레벨과 연차가 맞지 않습니다."),
+    NO_DEVELOPER(HttpStatus.NOT_FOUND, "해당되는 개발자가 없습니다."),
+    DUPLICATED_MEMBER_ID(HttpStatus.CONFLICT, "MemberId가 중복되는 개발자가 있습니다."),
+    LEVEL_EXPERIENCE_YEARS_NOT_MATCHED(HttpStatus.BAD_REQUEST, "개발자 레벨과 연차가 맞지 않습니다."),
+    VERSION_NOT_MATCHED(HttpStatus.PRECONDITION_FAILED, "다른 요청에서 먼저 수정되었습니다. 다시 조회 후 수정해주세요."),
+    EVENT_CURSOR_EXPIRED(HttpStatus.GONE, "이벤트 보관 기간이 지난 커서입니다. 전체 목록을 다시 읽고 커서 없이 처음부터 받아주세요."),
 
-    INTERNAL_SERVER_ERROR("서버에 오류가 발생했습니다."),
-    INVALID_REQUEST("잘못된 요청입니다."),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버에 오류가 발생했습니다."),
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다."),
+    NOT_ACCEPTABLE(HttpStatus.NOT_ACCEPTABLE, "요청한 형식(Accept)으로 응답할 수 없습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "처리 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    REQUEST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
 
     ;
 
+    // 응답 상태 코드. 4xx 는 다시 보내도 같은 결과라서 클라이언트가 재시도하지 않게 한다.
+    private final HttpStatus status;
     private final String message;
 }
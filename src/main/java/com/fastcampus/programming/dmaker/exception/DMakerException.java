@@ -2,20 +2,31 @@ package com.fastcampus.programming.dmaker.exception;
 
 import lombok.Getter;
 
+import java.time.Duration;
+
 @Getter
 public class DMakerException extends RuntimeException{
     private DMakerErrorCode dMakerErrorCode;
     private String detailMessage;
+    // 다시 시도해도 되는 시점 (Retry-After), 없으면 DMakerExceptionHandler 의 기본값을 쓴다.
+    private Duration retryAfter;
 
+    // 비즈니스 규칙에 의한 거절이라 스택트레이스가 필요 없다.
+    // 스택을 채우지 않으면 대량 검증에서 예외 생성 비용이 크게 줄어든다.
     public DMakerException(DMakerErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.dMakerErrorCode = errorCode;
         this.detailMessage = errorCode.getMessage();
     }
 
     public DMakerException(DMakerErrorCode errorCode, String detailMessage) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.dMakerErrorCode = errorCode;
         this.detailMessage = detailMessage;
     }
+
+    public DMakerException(DMakerErrorCode errorCode, Duration retryAfter) {
+        this(errorCode);
+        this.retryAfter = retryAfter;
+    }
 }
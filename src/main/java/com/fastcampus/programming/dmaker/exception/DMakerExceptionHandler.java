@@ -1,57 +1,191 @@
 package com.fastcampus.programming.dmaker.exception;
 
 import com.fastcampus.programming.dmaker.dto.DMakerErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice // 각 컨트롤러에 영향을 줌, 전역 예외 핸들러로 만들어준다. 각 컨트롤러의 예외를 이 핸들러가 처리하게 됨.
 public class DMakerExceptionHandler {
+    // 에러 코드별 카운터(dmaker.errors{code=...,status=...})를 미리 등록해두고 재사용한다.
+    private final Map<DMakerErrorCode, Counter> errorCounters = new EnumMap<>(DMakerErrorCode.class);
+    private final Duration retryAfter;
+    private final CacheControl notFoundCacheControl;
+
+    public DMakerExceptionHandler(
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.errors.retry-after}") Duration retryAfter,
+            @Value("${dmaker.errors.not-found-max-age}") Duration notFoundMaxAge
+    ) {
+        for (DMakerErrorCode errorCode : DMakerErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("dmaker.errors")
+                    .description("DMakerExceptionHandler 가 내려준 에러 응답 수")
+                    .tag("code", errorCode.name())
+                    .tag("status", String.valueOf(errorCode.getStatus().value()))
+                    .register(meterRegistry));
+        }
+        this.retryAfter = retryAfter;
+        this.notFoundCacheControl = CacheControl.maxAge(notFoundMaxAge);
+    }
 
     @ExceptionHandler(DMakerException.class)
-    public DMakerErrorResponse handleException(
+    public ResponseEntity<DMakerErrorResponse> handleException(
             DMakerException e,
             HttpServletRequest request
     ) {
-        log.error("errorCode: {}, url: {}, message: {}",
-                e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
+        if (e.getDMakerErrorCode().getStatus().is5xxServerError())
+            log.error("errorCode: {}, url: {}, message: {}",
+                    e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
+        else
+            log.warn("errorCode: {}, url: {}, message: {}",
+                    e.getDMakerErrorCode(), request.getRequestURI(), e.getDetailMessage());
 
-        return DMakerErrorResponse.builder()
-                .errorCode(e.getDMakerErrorCode())
-                .errorMessage(e.getDetailMessage())
-                .build();
+        return toResponse(e.getDMakerErrorCode(), e.getDetailMessage(), e.getRetryAfter(), request);
     }
 
     @ExceptionHandler(value = {
-            HttpRequestMethodNotSupportedException.class, // 컨트롤러에 있는 도메인에 맞지 않는 매핑 요청을 하는 경우 예외 처리
-            MethodArgumentNotValidException.class // Validation 과정에서(NotNull, Min(0) 등등) 문제가 발생하는 예외를 처리해준다.
+            MethodArgumentNotValidException.class, // Validation 과정에서(NotNull, Min(0) 등등) 문제가 발생하는 예외를 처리해준다.
+            BindException.class, // 쿼리 파라미터(@ModelAttribute) 바인딩/검증 실패
+            // 요청 본문/파라미터/헤더가 잘못된 경우. 다시 보내도 같은 결과라서 500 이 아니라 400 으로 내려준다.
+            HttpMessageNotReadableException.class,
+            HttpMediaTypeNotSupportedException.class,
+            MissingServletRequestParameterException.class,
+            MissingRequestHeaderException.class,
+            MethodArgumentTypeMismatchException.class
     })
-    public DMakerErrorResponse handleBadRequest(
+    public ResponseEntity<DMakerErrorResponse> handleBadRequest(
             Exception e, HttpServletRequest request
     ) {
-        log.error("url: {}, message: {}",
+        log.warn("url: {}, message: {}",
                 request.getRequestURI(), e.getMessage());
 
-        return DMakerErrorResponse.builder()
-                .errorCode(DMakerErrorCode.INVALID_REQUEST)
-                .errorMessage(DMakerErrorCode.INVALID_REQUEST.getMessage())
-                .build();
+        return toResponse(DMakerErrorCode.INVALID_REQUEST,
+                DMakerErrorCode.INVALID_REQUEST.getMessage(), null, request);
+    }
+
+    // 컨트롤러에 있는 도메인에 맞지 않는 메서드로 요청한 경우. Allow 로 가능한 메서드를 알려준다.
+    @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+    public ResponseEntity<DMakerErrorResponse> handleMethodNotAllowed(
+            HttpRequestMethodNotSupportedException e, HttpServletRequest request
+    ) {
+        log.warn("url: {}, message: {}",
+                request.getRequestURI(), e.getMessage());
+
+        ResponseEntity.BodyBuilder response = responseFor(DMakerErrorCode.METHOD_NOT_ALLOWED, null, request);
+        if (e.getSupportedHttpMethods() != null)
+            response.allow(e.getSupportedHttpMethods().toArray(new HttpMethod[0]));
+
+        return response.body(errorResponse(DMakerErrorCode.METHOD_NOT_ALLOWED,
+                DMakerErrorCode.METHOD_NOT_ALLOWED.getMessage()));
+    }
+
+    // 클라이언트가 받을 수 있는 형식이 없으므로 JSON 본문 없이 상태 코드만 내려준다.
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<DMakerErrorResponse> handleNotAcceptable(
+            HttpMediaTypeNotAcceptableException e, HttpServletRequest request
+    ) {
+        log.warn("url: {}, message: {}",
+                request.getRequestURI(), e.getMessage());
+
+        return responseFor(DMakerErrorCode.NOT_ACCEPTABLE, null, request).build();
+    }
+
+    // 비동기 요청(DeferredResult 등)이 제한 시간 안에 끝나지 않은 경우. 서버 사정이라 재시도할 수 있다.
+    // 이미 응답을 쓰기 시작했으면(스트리밍) 더 쓸 수 없으므로 그대로 둔다.
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<DMakerErrorResponse> handleAsyncRequestTimeout(
+            AsyncRequestTimeoutException e, HttpServletRequest request, HttpServletResponse servletResponse
+    ) {
+        if (servletResponse.isCommitted())
+            return null;
+
+        log.warn("url: {}, message: async request timed out", request.getRequestURI());
+
+        return toResponse(DMakerErrorCode.REQUEST_TIMEOUT,
+                DMakerErrorCode.REQUEST_TIMEOUT.getMessage(), null, request);
     }
 
     @ExceptionHandler(Exception.class)
-    public DMakerErrorResponse handleException(
+    public ResponseEntity<DMakerErrorResponse> handleException(
             Exception e, HttpServletRequest request
     ) {
         log.error("url: {}, message: {}",
                 request.getRequestURI(), e.getMessage());
 
+        return toResponse(DMakerErrorCode.INTERNAL_SERVER_ERROR,
+                DMakerErrorCode.INTERNAL_SERVER_ERROR.getMessage(), null, request);
+    }
+
+    // 상태 코드는 DMakerErrorCode 에 정해둔 값을 쓴다.
+    // 429/503 은 Retry-After 로 다시 보낼 시점을 알려주고,
+    // GET 의 404 는 짧게 캐싱해서 없는 개발자를 반복 조회하는 요청이 서버까지 오지 않게 한다.
+    // 나머지 에러 응답은 캐싱하지 않는다.
+    private ResponseEntity<DMakerErrorResponse> toResponse(
+            DMakerErrorCode errorCode,
+            String errorMessage,
+            Duration retryAfter,
+            HttpServletRequest request
+    ) {
+        return responseFor(errorCode, retryAfter, request)
+                .body(errorResponse(errorCode, errorMessage));
+    }
+
+    private ResponseEntity.BodyBuilder responseFor(
+            DMakerErrorCode errorCode,
+            Duration retryAfter,
+            HttpServletRequest request
+    ) {
+        errorCounters.get(errorCode).increment();
+
+        HttpStatus status = errorCode.getStatus();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(
+                    retryAfter != null ? retryAfter : this.retryAfter)));
+            response.cacheControl(CacheControl.noStore());
+        } else if (status == HttpStatus.NOT_FOUND && HttpMethod.GET.matches(request.getMethod())) {
+            response.cacheControl(notFoundCacheControl);
+        } else {
+            response.cacheControl(CacheControl.noStore());
+        }
+        return response;
+    }
+
+    private static DMakerErrorResponse errorResponse(DMakerErrorCode errorCode, String errorMessage) {
         return DMakerErrorResponse.builder()
-                .errorCode(DMakerErrorCode.INTERNAL_SERVER_ERROR)
-                .errorMessage(DMakerErrorCode.INTERNAL_SERVER_ERROR.getMessage())
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
                 .build();
     }
+
+    // Retry-After 는 초 단위 정수라서 올림한다. 최소 1초
+    private static long toSeconds(Duration duration) {
+        long seconds = duration.getSeconds() + (duration.getNano() > 0 ? 1 : 0);
+        return Math.max(seconds, 1);
+    }
 }
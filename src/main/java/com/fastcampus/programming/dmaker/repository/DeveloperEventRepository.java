@@ -0,0 +1,60 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DeveloperEventRepository extends JpaRepository<DeveloperEvent, Long> {
+
+    // (createdAt, id) 기준 keyset 페이지네이션, pageable 은 limit 으로만 사용한다.
+    // before 이후에 만들어진 이벤트는 아직 커밋되지 않은 트랜잭션의 이벤트가 앞에 끼어들 수 있어서 읽지 않는다.
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperEventDto(" +
+            "e.id, e.eventType, e.memberId, e.developerLevel, e.developerSkillType, " +
+            "e.experienceYears, e.name, e.age, e.statusCode, e.createdAt) " +
+            "from DeveloperEvent e " +
+            "where (e.createdAt > :createdAt or (e.createdAt = :createdAt and e.id > :id)) " +
+            "and e.createdAt < :before " +
+            "order by e.createdAt, e.id")
+    List<DeveloperEventDto> findEventDtosAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("before") LocalDateTime before,
+            Pageable pageable);
+
+    // 아래 두 쿼리는 트랜잭션 밖에서 부르면(DeveloperListView, 스냅샷 로드) primary 에서 읽는다.
+    // 기본값인 readOnly 로 두면 레플리카로 가는데, 지연된 레플리카에서 읽은 offset/변경 목록은 이미 커밋된 변경을 빠뜨린다.
+    // 읽기 전용 트랜잭션 안에서 부르면(스냅샷 쓰기) 그 트랜잭션을 따라간다.
+    @Transactional
+    @Query("select coalesce(max(e.id), 0) from DeveloperEvent e")
+    long findMaxId();
+
+    // 스냅샷 이후에 바뀐 개발자. compaction 은 memberId 별 최신 이벤트를 남기므로 빠지지 않는다.
+    // or 로 묶으면 인덱스를 못 타고 전체를 읽어서 distinct 하므로(목록 갱신마다 호출된다)
+    // id(PK) 범위와 createdAt(ix_developer_event_created_at) 범위를 따로 읽어서 union 한다. union 이 중복도 없앤다.
+    @Transactional
+    @Query("select e.memberId from DeveloperEvent e where e.id > :id " +
+            "union " +
+            "select e.memberId from DeveloperEvent e where e.createdAt >= :createdAt")
+    List<String> findMemberIdsChangedSince(
+            @Param("id") Long id,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    // 보관 기간이 지났고 같은 memberId 의 더 최신 이벤트가 (피드 순서로) 있는 이벤트만 지운다.
+    @Modifying
+    @Query("delete from DeveloperEvent e " +
+            "where e.createdAt < :before " +
+            "and exists (select n.id from DeveloperEvent n " +
+            "where n.memberId = e.memberId " +
+            "and (n.createdAt > e.createdAt or (n.createdAt = e.createdAt and n.id > e.id)))")
+    int deleteSupersededBefore(@Param("before") LocalDateTime before);
+}
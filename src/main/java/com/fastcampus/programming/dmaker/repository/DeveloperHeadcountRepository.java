@@ -0,0 +1,39 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.entity.DeveloperHeadcount;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DeveloperHeadcountRepository extends JpaRepository<DeveloperHeadcount, Long> {
+
+    // 읽고 더하지 않고 DB 에서 바로 증감해서 동시에 변경돼도 값이 틀어지지 않게 한다.
+    @Modifying
+    @Query("update DeveloperHeadcount h " +
+            "set h.headcount = h.headcount + :delta " +
+            "where h.statusCode = :statusCode " +
+            "and h.developerLevel = :developerLevel " +
+            "and h.developerSkillType = :developerSkillType")
+    int addHeadcount(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("developerLevel") DeveloperLevel developerLevel,
+            @Param("developerSkillType") DeveloperSkillType developerSkillType,
+            @Param("delta") long delta);
+
+    // 재집계(DeveloperStatisticsService.recompute)가 집계하기 전에 조합 행을 잠글 때 쓴다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<DeveloperHeadcount> findForUpdateByStatusCodeAndDeveloperLevelAndDeveloperSkillType(
+            StatusCode statusCode,
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType);
+}
@@ -1,17 +1,112 @@
 package com.fastcampus.programming.dmaker.repository;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperHeadcountDto;
 import com.fastcampus.programming.dmaker.entity.Developer;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
+public interface DeveloperRepository extends JpaRepository<Developer, Long>, DeveloperRepositoryCustom {
 
     Optional<Developer> findByMemberId(String memberId);
 
-    List<Developer> findDevelopersByStatusCodeEquals(StatusCode statusCode);
+    @Query("select d.memberId from Developer d where d.memberId in :memberIds")
+    List<String> findMemberIdsByMemberIdIn(@Param("memberIds") Collection<String> memberIds);
+
+    // 조회 전용 쿼리는 Entity 대신 Dto 생성자로 필요한 컬럼만 읽는다.
+    // 영속성 컨텍스트에 올라가지 않으므로 스냅샷/더티체킹 비용이 없다.
+
+    // id 기준 keyset 페이지네이션, pageable 은 limit 으로만 사용한다.
+    // 결과는 쿼리 캐시에 둔다. developer 테이블이 바뀌면(상태 변경 포함) Hibernate 가 무효화한다.
+    // 레플리카에서 읽은 결과를 넣으면 무효화 뒤에도 이전 목록이 남으므로 primary 에서 읽는다.
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "developer-query")
+    })
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.id, d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d " +
+            "where d.statusCode = :statusCode and d.id > :id " +
+            "order by d.id")
+    List<DeveloperDto> findDeveloperDtosByStatusCode(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // 미리 직렬화해 둔 목록(DeveloperListView)에서 바뀐 개발자만 다시 읽을 때 사용한다.
+    // 변경 이벤트를 primary 에서 읽으므로 행도 primary 에서 읽는다. 레플리카에서 읽으면 바뀌기 전 행으로 조각을 만든다.
+    @Transactional
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDto(" +
+            "d.id, d.developerLevel, d.developerSkillType, d.memberId) " +
+            "from Developer d " +
+            "where d.statusCode = :statusCode and d.memberId in :memberIds")
+    List<DeveloperDto> findDeveloperDtosByStatusCodeAndMemberIdIn(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("memberIds") Collection<String> memberIds);
+
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, " +
+            "d.memberId, d.name, d.age, d.statusCode, d.version) " +
+            "from Developer d " +
+            "where d.memberId = :memberId")
+    Optional<DeveloperDetailDto> findDetailByMemberId(@Param("memberId") String memberId);
+
+    // 일괄 퇴직(DMakerService.retireDevelopers)에서 바꿀 행을 먼저 잠근다. (select ... for update)
+    // 다른 트랜잭션이 먼저 퇴직시킨 행은 그 커밋을 기다린 뒤 EMPLOYED 가 아니어서 빠진다.
+    // 트랜잭션끼리 잠그는 순서가 같도록 id 순으로 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from Developer d " +
+            "where d.statusCode = :statusCode and d.memberId in :memberIds " +
+            "order by d.id")
+    List<Developer> findForUpdateByStatusCodeAndMemberIdIn(
+            @Param("statusCode") StatusCode statusCode,
+            @Param("memberIds") Collection<String> memberIds);
+
+    // 스냅샷(DeveloperSnapshotService)용. 전체를 메모리에 올리지 않도록 스트림으로 읽는다.
+    // 트랜잭션 안에서 호출하고 다 읽은 뒤 close 해야 한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperDetailDto(" +
+            "d.developerLevel, d.developerSkillType, d.experienceYears, " +
+            "d.memberId, d.name, d.age, d.statusCode, d.version) " +
+            "from Developer d " +
+            "where d.statusCode = :statusCode")
+    Stream<DeveloperDetailDto> streamDetailsByStatusCode(@Param("statusCode") StatusCode statusCode);
+
+    // 벌크 update 는 Auditing 과 @Version 을 거치지 않으므로 updatedAt, version 을 직접 바꾼다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Developer d " +
+            "set d.statusCode = :to, d.updatedAt = :updatedAt, d.version = d.version + 1 " +
+            "where d.statusCode = :from and d.memberId in :memberIds")
+    int updateStatusCodeByMemberIdIn(
+            @Param("from") StatusCode from,
+            @Param("to") StatusCode to,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("memberIds") Collection<String> memberIds);
+
+    // 통계 재계산(DeveloperStatisticsService.recompute)용 전체 집계
+    @Query("select new com.fastcampus.programming.dmaker.dto.DeveloperHeadcountDto(" +
+            "d.statusCode, d.developerLevel, d.developerSkillType, count(d)) " +
+            "from Developer d " +
+            "group by d.statusCode, d.developerLevel, d.developerSkillType")
+    List<DeveloperHeadcountDto> countGroupByStatusCodeAndLevelAndSkillType();
 }
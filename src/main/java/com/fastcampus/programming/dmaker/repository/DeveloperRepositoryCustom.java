@@ -0,0 +1,17 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearch;
+import com.fastcampus.programming.dmaker.entity.Developer;
+
+import java.util.List;
+import java.util.Optional;
+
+// 조건 조합에 따라 쿼리가 달라지는 조회는 Criteria 로 직접 만든다. (DeveloperRepositoryCustomImpl)
+public interface DeveloperRepositoryCustom {
+
+    List<DeveloperDto> search(DeveloperSearch.Request condition, int offset, int limit);
+
+    // memberId(@NaturalId) 로 조회한다. 2차 캐시에 있으면 SQL 을 실행하지 않는다.
+    Optional<Developer> findByNaturalId(String memberId);
+}
@@ -0,0 +1,74 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearch;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperSortType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.Session;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class DeveloperRepositoryCustomImpl implements DeveloperRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Developer> findByNaturalId(String memberId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Developer.class)
+                .loadOptional(memberId);
+    }
+
+    // statusCode 는 항상 조건에 들어가므로 복합 인덱스의 첫 컬럼이다. (Developer 의 인덱스 참고)
+    @Override
+    public List<DeveloperDto> search(DeveloperSearch.Request condition, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DeveloperDto> query = cb.createQuery(DeveloperDto.class);
+        Root<Developer> developer = query.from(Developer.class);
+
+        query.select(cb.construct(DeveloperDto.class,
+                developer.get("id"),
+                developer.get("developerLevel"),
+                developer.get("developerSkillType"),
+                developer.get("memberId")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(developer.get("statusCode"),
+                condition.getStatusCode() == null ? StatusCode.EMPLOYED : condition.getStatusCode()));
+        if (condition.getDeveloperLevel() != null)
+            predicates.add(cb.equal(developer.get("developerLevel"), condition.getDeveloperLevel()));
+        if (condition.getDeveloperSkillType() != null)
+            predicates.add(cb.equal(developer.get("developerSkillType"), condition.getDeveloperSkillType()));
+        if (condition.getMinExperienceYears() != null)
+            predicates.add(cb.greaterThanOrEqualTo(
+                    developer.<Integer>get("experienceYears"), condition.getMinExperienceYears()));
+        if (condition.getMaxExperienceYears() != null)
+            predicates.add(cb.lessThanOrEqualTo(
+                    developer.<Integer>get("experienceYears"), condition.getMaxExperienceYears()));
+        query.where(predicates.toArray(new Predicate[0]));
+
+        // 같은 값끼리의 순서가 페이지마다 바뀌지 않도록 id 를 마지막 정렬 기준으로 둔다.
+        DeveloperSortType sort = condition.getSort() == null ? DeveloperSortType.ID : condition.getSort();
+        Path<Object> sortPath = developer.get(sort.getProperty());
+        Order order = condition.getDirection() == Sort.Direction.DESC
+                ? cb.desc(sortPath)
+                : cb.asc(sortPath);
+        if (sort == DeveloperSortType.ID)
+            query.orderBy(order);
+        else
+            query.orderBy(order, cb.asc(developer.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// R2DBC 로 읽는 Developer 조회 (ReactiveDMakerService)
+// JPA 리포지토리와 같은 테이블/컬럼을 읽고 같은 Dto 로 돌려준다.
+// 커넥션 풀은 ConnectionFactory 빈으로 등록하지 않고 여기서 직접 관리한다. (application.yml 의 autoconfigure.exclude 참고)
+public class ReactiveDeveloperRepository implements DisposableBean {
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveDeveloperRepository(String url, int maxSize) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(url))
+                .name("reactive")
+                .maxSize(maxSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    // id 기준 keyset 페이지네이션 (DeveloperRepository.findDeveloperDtosByStatusCode 와 같은 쿼리)
+    public Flux<DeveloperDto> findDeveloperDtosByStatusCode(StatusCode statusCode, long id, int limit) {
+        return databaseClient.sql("select id, developer_level, developer_skill_type, member_id " +
+                        "from developer " +
+                        "where status_code = :statusCode and id > :id " +
+                        "order by id " +
+                        "limit :limit")
+                .bind("statusCode", statusCode.name())
+                .bind("id", id)
+                .bind("limit", limit)
+                .map((row, metadata) -> DeveloperDto.builder()
+                        .id(row.get("id", Long.class))
+                        .developerLevel(getEnum(row, "developer_level", DeveloperLevel.class))
+                        .developerSkillType(getEnum(row, "developer_skill_type", DeveloperSkillType.class))
+                        .memberId(row.get("member_id", String.class))
+                        .build())
+                .all();
+    }
+
+    public Mono<DeveloperDetailDto> findDetailByMemberId(String memberId) {
+        return databaseClient.sql("select developer_level, developer_skill_type, experience_years, " +
+                        "member_id, name, age, status_code, version " +
+                        "from developer " +
+                        "where member_id = :memberId")
+                .bind("memberId", memberId)
+                .map((row, metadata) -> DeveloperDetailDto.builder()
+                        .developerLevel(getEnum(row, "developer_level", DeveloperLevel.class))
+                        .developerSkillType(getEnum(row, "developer_skill_type", DeveloperSkillType.class))
+                        .experienceYears(row.get("experience_years", Integer.class))
+                        .memberId(row.get("member_id", String.class))
+                        .name(row.get("name", String.class))
+                        .age(row.get("age", Integer.class))
+                        .statusCode(getEnum(row, "status_code", StatusCode.class))
+                        .version(row.get("version", Long.class))
+                        .build())
+                .one();
+    }
+
+    // enum 은 @Enumerated(EnumType.STRING) 으로 이름이 저장되어 있다.
+    private static <E extends Enum<E>> E getEnum(Row row, String column, Class<E> type) {
+        String value = row.get(column, String.class);
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
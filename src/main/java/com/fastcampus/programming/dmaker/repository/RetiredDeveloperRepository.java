@@ -1,11 +1,59 @@
 package com.fastcampus.programming.dmaker.repository;
 
+import com.fastcampus.programming.dmaker.dto.RetiredDeveloperDto;
 import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface RetiredDeveloperRepository extends JpaRepository<RetiredDeveloper, Long> {
 
+    // (createdAt, id) 기준 keyset 페이지네이션, ix_retired_developer_created_at 을 탄다.
+    // 첫 페이지는 (from, 0) 커서로 읽는다. pageable 은 limit 으로만 사용한다.
+    @Query("select new com.fastcampus.programming.dmaker.dto.RetiredDeveloperDto(" +
+            "r.id, r.memberId, r.name, r.createdAt) " +
+            "from RetiredDeveloper r " +
+            "where r.createdAt < :to " +
+            "and (r.createdAt > :createdAt or (r.createdAt = :createdAt and r.id > :id)) " +
+            "order by r.createdAt, r.id")
+    List<RetiredDeveloperDto> findDtosByCreatedAtRange(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            @Param("to") LocalDateTime to,
+            Pageable pageable);
+
+    // id 기준 keyset 페이지네이션, ix_retired_developer_member_id 를 탄다.
+    @Query("select new com.fastcampus.programming.dmaker.dto.RetiredDeveloperDto(" +
+            "r.id, r.memberId, r.name, r.createdAt) " +
+            "from RetiredDeveloper r " +
+            "where r.memberId = :memberId and r.id > :id " +
+            "order by r.id")
+    List<RetiredDeveloperDto> findDtosByMemberId(
+            @Param("memberId") String memberId,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("select distinct r.retiredMonth from RetiredDeveloper r " +
+            "where r.retiredMonth < :retiredMonth " +
+            "order by r.retiredMonth")
+    List<Integer> findRetiredMonthsBefore(@Param("retiredMonth") Integer retiredMonth);
+
+    // 아카이브는 버킷(월) 단위로 insert-select 후 delete 한다. 엔티티를 읽어오지 않는다.
+    @Modifying
+    @Query("insert into RetiredDeveloperArchive (id, memberId, name, retiredMonth, createdAt, updatedAt) " +
+            "select r.id, r.memberId, r.name, r.retiredMonth, r.createdAt, r.updatedAt " +
+            "from RetiredDeveloper r " +
+            "where r.retiredMonth = :retiredMonth")
+    int copyToArchiveByRetiredMonth(@Param("retiredMonth") Integer retiredMonth);
 
+    @Modifying
+    @Query("delete from RetiredDeveloper r where r.retiredMonth = :retiredMonth")
+    int deleteByRetiredMonth(@Param("retiredMonth") Integer retiredMonth);
 }
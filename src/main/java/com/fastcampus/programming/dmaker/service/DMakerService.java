@@ -1,28 +1,62 @@
 package com.fastcampus.programming.dmaker.service;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.BulkRetireDeveloper;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearch;
 import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.dto.KeysetCursor;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
 import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
 import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
 import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.validation.Validator;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_DETAIL_CACHE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.IN_QUERY_CHUNK_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
 @Service
 @RequiredArgsConstructor
 public class DMakerService {
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     private final DeveloperRepository developerRepository;
     // 기존에는 생성자에 해당 필드 타입의 데이터를 받아 주입했다면
     // RequiredArgsConstructor를 사용하면 자동으로 인젝션 해준다.
@@ -30,6 +64,10 @@ public class DMakerService {
     // RequiredArgs 생성자가 자동으로 만들어진다.
 
     private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final DeveloperStatisticsService developerStatisticsService;
+    private final DeveloperEventService developerEventService;
+    private final Validator validator;
+    private final CacheManager cacheManager;
 
     @Transactional
     public CreateDeveloper.Response createDeveloper(
@@ -38,11 +76,237 @@ public class DMakerService {
         validateCreateDeveloperRequest(request);
 
         // Entity를 Repository를 통해 DB에 영속화
-        return CreateDeveloper.Response.fromEntity(
-                developerRepository.save(
-                        createDeveloperFromRequest(request)
-                )
-        );
+        // 중복 검사를 위해 미리 SELECT 하지 않고, memberId 유니크 인덱스 위반을 중복으로 변환한다.
+        // flush 해야 제약조건 위반이 이 메서드 안에서 발생한다.
+        Developer developer;
+        try {
+            developer = developerRepository.saveAndFlush(
+                    createDeveloperFromRequest(request)
+            );
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e))
+                throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+            throw e;
+        }
+
+        developerStatisticsService.apply(new DeveloperStatisticsService.Changes()
+                .add(StatusCode.EMPLOYED, developer.getDeveloperLevel(), developer.getDeveloperSkillType(), 1));
+        developerEventService.publish(DeveloperEventType.CREATED, DeveloperDetailDto.fromEntity(developer));
+
+        return CreateDeveloper.Response.fromEntity(developer);
+    }
+
+    // Developer 테이블의 유니크 제약조건은 memberId 하나뿐이다.
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState()))
+                return true;
+        }
+        return false;
+    }
+
+    @Transactional
+    public BulkCreateDeveloper.Response createDevelopers(
+            List<CreateDeveloper.Request> requests
+    ) {
+        DMakerErrorCode[] errorCodes = validateCreateDeveloperRequests(requests);
+
+        List<Developer> developers = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (errorCodes[i] == null)
+                developers.add(createDeveloperFromRequest(requests.get(i)));
+        }
+
+        // hibernate.jdbc.batch_size 단위로 묶여서 insert 된다.
+        // 검증 이후 다른 요청이 같은 memberId 를 먼저 넣은 경우에는 전체를 롤백한다.
+        try {
+            developerRepository.saveAllAndFlush(developers);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e))
+                throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
+            throw e;
+        }
+
+        DeveloperStatisticsService.Changes changes = new DeveloperStatisticsService.Changes();
+        for (Developer developer : developers) {
+            changes.add(StatusCode.EMPLOYED, developer.getDeveloperLevel(), developer.getDeveloperSkillType(), 1);
+        }
+        developerStatisticsService.apply(changes);
+        developerEventService.publish(DeveloperEventType.CREATED, developers.stream()
+                .map(DeveloperDetailDto::fromEntity)
+                .collect(Collectors.toList()));
+
+        List<BulkCreateDeveloper.Result> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateDeveloper.Request request = requests.get(i);
+            results.add(BulkCreateDeveloper.Result.builder()
+                    .index(i)
+                    .memberId(request == null ? null : request.getMemberId())
+                    .created(errorCodes[i] == null)
+                    .errorCode(errorCodes[i])
+                    .build());
+        }
+
+        return BulkCreateDeveloper.Response.builder()
+                .createdCount(developers.size())
+                .results(results)
+                .build();
+    }
+
+    // 요청 전체를 한 번에 검증해서 항목별 에러 코드를 돌려준다. (통과한 항목은 null)
+    private DMakerErrorCode[] validateCreateDeveloperRequests(
+            List<CreateDeveloper.Request> requests
+    ) {
+        DMakerErrorCode[] errorCodes = checkCreateDeveloperRequests(requests);
+
+        Set<String> memberIds = new HashSet<>();
+        collectMemberIds(requests, CreateDeveloper.Request::getMemberId, errorCodes, memberIds);
+        checkExistingMemberIds(requests, errorCodes, findExistingMemberIds(memberIds));
+
+        return errorCodes;
+    }
+
+    // DB 조회 없이 요청만 보고 검증한다.
+    private DMakerErrorCode[] checkCreateDeveloperRequests(
+            List<CreateDeveloper.Request> requests
+    ) {
+        DMakerErrorCode[] errorCodes = new DMakerErrorCode[requests.size()];
+        Set<String> memberIds = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateDeveloper.Request request = requests.get(i);
+            if (request == null || !validator.validate(request).isEmpty()) {
+                errorCodes[i] = DMakerErrorCode.INVALID_REQUEST;
+                continue;
+            }
+
+            if (!request.getDeveloperLevel().isValidExperienceYears(request.getExperienceYears())) {
+                errorCodes[i] = DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+                continue;
+            }
+
+            // 같은 요청 안에서 memberId 가 겹치면 뒤의 항목을 중복으로 처리한다.
+            if (!memberIds.add(request.getMemberId()))
+                errorCodes[i] = DMakerErrorCode.DUPLICATED_MEMBER_ID;
+        }
+
+        return errorCodes;
+    }
+
+    private static void checkExistingMemberIds(
+            List<CreateDeveloper.Request> requests,
+            DMakerErrorCode[] errorCodes,
+            Set<String> existingMemberIds
+    ) {
+        for (int i = 0; i < requests.size(); i++) {
+            if (errorCodes[i] == null
+                    && existingMemberIds.contains(requests.get(i).getMemberId()))
+                errorCodes[i] = DMakerErrorCode.DUPLICATED_MEMBER_ID;
+        }
+    }
+
+    // DB 조회 없이 요청만 보고 검증한다. 대상 개발자가 있는지는 validateDevelopers 에서 확인한다.
+    private DMakerErrorCode[] checkEditDeveloperRequests(
+            List<ValidateDevelopers.Edit> edits
+    ) {
+        DMakerErrorCode[] errorCodes = new DMakerErrorCode[edits.size()];
+
+        for (int i = 0; i < edits.size(); i++) {
+            ValidateDevelopers.Edit edit = edits.get(i);
+            if (edit == null || !StringUtils.hasText(edit.getMemberId())
+                    || edit.getDeveloper() == null
+                    || !validator.validate(edit.getDeveloper()).isEmpty()) {
+                errorCodes[i] = DMakerErrorCode.INVALID_REQUEST;
+                continue;
+            }
+
+            EditDeveloper.Request request = edit.getDeveloper();
+            if (!request.getDeveloperLevel().isValidExperienceYears(request.getExperienceYears()))
+                errorCodes[i] = DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED;
+        }
+
+        return errorCodes;
+    }
+
+    // 검증을 통과한 항목의 memberId 만 모은다.
+    private static <T> void collectMemberIds(
+            List<T> items,
+            Function<T, String> memberIdGetter,
+            DMakerErrorCode[] errorCodes,
+            Set<String> memberIds
+    ) {
+        for (int i = 0; i < items.size(); i++) {
+            if (errorCodes[i] == null)
+                memberIds.add(memberIdGetter.apply(items.get(i)));
+        }
+    }
+
+    // 생성/수정 요청을 저장하지 않고 검증만 한다.
+    // 요청 자체의 검증을 먼저 끝내고, 통과한 memberId 를 모아서 한 번만 조회한다.
+    @Transactional(readOnly = true)
+    public ValidateDevelopers.Response validateDevelopers(
+            List<CreateDeveloper.Request> creates,
+            List<ValidateDevelopers.Edit> edits
+    ) {
+        List<CreateDeveloper.Request> createRequests = creates == null ? Collections.emptyList() : creates;
+        List<ValidateDevelopers.Edit> editRequests = edits == null ? Collections.emptyList() : edits;
+
+        DMakerErrorCode[] createErrorCodes = checkCreateDeveloperRequests(createRequests);
+        DMakerErrorCode[] editErrorCodes = checkEditDeveloperRequests(editRequests);
+
+        Set<String> memberIds = new HashSet<>();
+        collectMemberIds(createRequests, CreateDeveloper.Request::getMemberId, createErrorCodes, memberIds);
+        collectMemberIds(editRequests, ValidateDevelopers.Edit::getMemberId, editErrorCodes, memberIds);
+        Set<String> existingMemberIds = findExistingMemberIds(memberIds);
+
+        checkExistingMemberIds(createRequests, createErrorCodes, existingMemberIds);
+        for (int i = 0; i < editRequests.size(); i++) {
+            if (editErrorCodes[i] == null
+                    && !existingMemberIds.contains(editRequests.get(i).getMemberId()))
+                editErrorCodes[i] = DMakerErrorCode.NO_DEVELOPER;
+        }
+
+        List<ValidateDevelopers.Result> createResults =
+                toValidateResults(createRequests, CreateDeveloper.Request::getMemberId, createErrorCodes);
+        List<ValidateDevelopers.Result> editResults =
+                toValidateResults(editRequests, ValidateDevelopers.Edit::getMemberId, editErrorCodes);
+
+        return ValidateDevelopers.Response.builder()
+                .invalidCount((int) (createResults.stream().filter(result -> !result.isValid()).count()
+                        + editResults.stream().filter(result -> !result.isValid()).count()))
+                .creates(createResults)
+                .edits(editResults)
+                .build();
+    }
+
+    private static <T> List<ValidateDevelopers.Result> toValidateResults(
+            List<T> items,
+            Function<T, String> memberIdGetter,
+            DMakerErrorCode[] errorCodes
+    ) {
+        List<ValidateDevelopers.Result> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            results.add(ValidateDevelopers.Result.builder()
+                    .index(i)
+                    .memberId(item == null ? null : memberIdGetter.apply(item))
+                    .valid(errorCodes[i] == null)
+                    .errorCode(errorCodes[i])
+                    .build());
+        }
+        return results;
+    }
+
+    // memberId IN (...) 으로 한 번에 조회한다. DB 의 IN 절 개수 제한 때문에 일정 크기로 나눈다.
+    private Set<String> findExistingMemberIds(Collection<String> memberIds) {
+        List<String> ids = new ArrayList<>(memberIds);
+        Set<String> existingMemberIds = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            existingMemberIds.addAll(developerRepository.findMemberIdsByMemberIdIn(
+                    ids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, ids.size()))));
+        }
+        return existingMemberIds;
     }
 
     private Developer createDeveloperFromRequest(CreateDeveloper.Request request) {
@@ -65,25 +329,56 @@ public class DMakerService {
                 request.getExperienceYears()
         );
 
-//        Optional<Developer> developer = developerRepository.findByMemberId(request.getMemberId());
-//        if(developer.isPresent())
-//            throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
-        developerRepository.findByMemberId(request.getMemberId())
-                .ifPresent((developer -> {
-                    throw new DMakerException(DMakerErrorCode.DUPLICATED_MEMBER_ID);
-                }));
+        // memberId 중복 검사는 insert 시 유니크 인덱스로 처리한다. (createDeveloper 참고)
+        // 미리 조회하는 방식은 쿼리가 한 번 더 나가고, 동시에 생성하면 중복을 막지 못한다.
     }
 
-    @Transactional(readOnly = true)
-    public List<DeveloperDto> getAllEmployedDevelopers() {
-        return developerRepository.findDevelopersByStatusCodeEquals(StatusCode.EMPLOYED)
-                .stream().map(DeveloperDto::fromEntity)
-                .collect(Collectors.toList());
+    // 쿼리 캐시에 넣는 조회라서 primary 에서 읽는다. (DeveloperRepository.findDeveloperDtosByStatusCode)
+    @Transactional
+    public DeveloperPage getEmployedDevelopers(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지가 있는지 확인하기 위해 한 건을 더 읽는다.
+        List<DeveloperDto> developers = developerRepository.findDeveloperDtosByStatusCode(
+                StatusCode.EMPLOYED, KeysetCursor.decode(cursor), PageRequest.ofSize(pageSize + 1));
+        boolean hasNext = developers.size() > pageSize;
+        List<DeveloperDto> page = hasNext ? developers.subList(0, pageSize) : developers;
+
+        return DeveloperPage.builder()
+                .developers(page)
+                .next(hasNext ? KeysetCursor.encode(page.get(pageSize - 1).getId()) : null)
+                .build();
     } // Dto 타입으로 변경
 
     @Transactional(readOnly = true)
+    public DeveloperSearch.Response searchDevelopers(DeveloperSearch.Request request) {
+        if (request.getMinExperienceYears() != null && request.getMaxExperienceYears() != null
+                && request.getMinExperienceYears() > request.getMaxExperienceYears())
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST);
+
+        int page = request.getPage() == null ? 0 : request.getPage();
+        int size = request.getSize() == null ? DEFAULT_PAGE_SIZE : request.getSize();
+
+        // 다음 페이지가 있는지 확인하기 위해 한 건을 더 읽는다. (count 쿼리 없음)
+        List<DeveloperDto> developers = developerRepository.search(request, page * size, size + 1);
+        boolean hasNext = developers.size() > size;
+
+        return DeveloperSearch.Response.builder()
+                .developers(hasNext ? developers.subList(0, size) : developers)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 없는 개발자(NO_DEVELOPER)는 예외라서 캐싱되지 않는다.
+    // 읽은 값을 캐시에 넣으므로 readOnly 로 두지 않고 primary 에서 읽는다.
+    // 지연된 레플리카에서 읽으면 방금 만든 개발자가 404(max-age)로, 방금 바꾼 값이 ttl 동안 이전 값으로 남는다.
+    @Cacheable(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#memberId")
+    @Transactional
     public DeveloperDetailDto getDeveloperDetail(String memberId) {
-        return DeveloperDetailDto.fromEntity(getDeveloperByMemberId(memberId));
+        return developerRepository.findDetailByMemberId(memberId)
+                .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
 //                //findByMemberId 는 Optional인데, 이것은
 //                // map 함수를 지원한다.
 //                .map(DeveloperDetailDto::fromEntity) // DeveloperEntity -> DeveloperDetailEntity
@@ -93,22 +388,47 @@ public class DMakerService {
     }
 
     private Developer getDeveloperByMemberId(String memberId) {
-        return developerRepository.findByMemberId(memberId)
+        return developerRepository.findByNaturalId(memberId)
                 .orElseThrow( () -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
     }
 
+    // expectedVersion 은 If-Match 로 받은 버전이다. null 이면 버전을 확인하지 않는다.
+    // 상세 캐시는 지우지 않고 커밋 이후에 새 값(새 version)으로 바꾼다. (CacheConfig, DeveloperDetailCache)
+    // 지우기만 하면 수정 전에 이전 값을 읽은 조회가 그 뒤에 이전 값을 다시 넣을 수 있다.
+    @CachePut(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#memberId")
     @Transactional // 변경된 사항 적용 후 커밋되도록 함.
     public DeveloperDetailDto editDeveloper(
-            String memberId, EditDeveloper.Request request
+            String memberId, Long expectedVersion, EditDeveloper.Request request
     ) {
         request.getDeveloperLevel().validateExperienceYears(request.getExperienceYears());
 
-        return DeveloperDetailDto.fromEntity(
-                getUpdatedDeveloperFromRequest(
-                        request,
-                        getDeveloperByMemberId(memberId)
-                )
-        );
+        Developer developer = getDeveloperByMemberId(memberId);
+        if (expectedVersion != null && !expectedVersion.equals(developer.getVersion()))
+            throw new DMakerException(DMakerErrorCode.VERSION_NOT_MATCHED);
+
+        // 레벨/스킬이 바뀌면 이전 조합에서 빼고 새 조합에 더한다. (같으면 상쇄된다)
+        DeveloperStatisticsService.Changes changes = new DeveloperStatisticsService.Changes()
+                .add(developer.getStatusCode(), developer.getDeveloperLevel(), developer.getDeveloperSkillType(), -1)
+                .add(developer.getStatusCode(), request.getDeveloperLevel(), request.getDeveloperSkillType(), 1);
+
+        Long version = developer.getVersion();
+        getUpdatedDeveloperFromRequest(request, developer);
+        // 응답에 올라간 version 으로 ETag 를 만들기 위해 여기서 flush 한다.
+        // 바뀐 값이 없으면 update 가 나가지 않고 version 도 그대로다.
+        // 조회 이후 다른 요청이 먼저 수정했다면 여기서 낙관적 락 예외가 난다.
+        try {
+            developerRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new DMakerException(DMakerErrorCode.VERSION_NOT_MATCHED);
+        }
+        developerStatisticsService.apply(changes);
+
+        DeveloperDetailDto developerDetail = DeveloperDetailDto.fromEntity(developer);
+        // version 이 그대로면 실제로 바뀐 값이 없으므로 이벤트를 남기지 않는다.
+        if (!Objects.equals(version, developer.getVersion()))
+            developerEventService.publish(DeveloperEventType.EDITED, developerDetail);
+
+        return developerDetail;
     }
 
     private static Developer getUpdatedDeveloperFromRequest(
@@ -148,14 +468,24 @@ public class DMakerService {
 //        }
 //    }
 
+    @CachePut(cacheNames = DEVELOPER_DETAIL_CACHE, key = "#memberId")
     @Transactional
     public DeveloperDetailDto deleteDeveloper(
             String memberId
     ) {
         // 1. EMPLOYED -> RETIRED
-        Developer developer = developerRepository.findByMemberId(memberId)
+        Developer developer = developerRepository.findByNaturalId(memberId)
                 .orElseThrow(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+        boolean employed = developer.getStatusCode() == StatusCode.EMPLOYED;
+        if (employed)
+            developerStatisticsService.apply(retiredChanges(
+                    developer.getDeveloperLevel(), developer.getDeveloperSkillType(),
+                    new DeveloperStatisticsService.Changes()));
         developer.setStatusCode(StatusCode.RETIRED);
+        // 캐시에 넣을 값에 바뀐 version 이 들어가도록 여기서 flush 한다.
+        developerRepository.flush();
+        if (employed)
+            developerEventService.publish(DeveloperEventType.RETIRED, DeveloperDetailDto.fromEntity(developer));
         // 2. save into RetiredDeveloper
         RetiredDeveloper retiredDeveloper = RetiredDeveloper.builder()
                 .memberId(memberId)
@@ -164,4 +494,81 @@ public class DMakerService {
         retiredDeveloperRepository.save(retiredDeveloper);
         return DeveloperDetailDto.fromEntity(developer);
     }
+
+    // 여러 memberId 를 한 트랜잭션에서 퇴직 처리한다.
+    // 바꿀 행을 먼저 잠가서, 동시에 들어온 퇴직 요청과 같은 개발자를 두 번 퇴직 처리(이력/통계/이벤트 중복)하지 않는다.
+    // 상태 변경은 잠근 행만 벌크 update 로, RetiredDeveloper 는 배치 insert 로 저장한다.
+    // 상세 캐시는 커밋 이후에 퇴직한 개발자의 새 값(새 version)으로 바꾼다. (editDeveloper 참고)
+    @Transactional
+    public BulkRetireDeveloper.Response retireDevelopers(
+            List<String> memberIds
+    ) {
+        List<String> requestedMemberIds = new ArrayList<>(new LinkedHashSet<>(memberIds));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<DeveloperDetailDto> developers = new ArrayList<>();
+        for (int from = 0; from < requestedMemberIds.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<String> chunk = requestedMemberIds.subList(
+                    from, Math.min(from + IN_QUERY_CHUNK_SIZE, requestedMemberIds.size()));
+            List<DeveloperDetailDto> locked = developerRepository
+                    .findForUpdateByStatusCodeAndMemberIdIn(StatusCode.EMPLOYED, chunk).stream()
+                    .map(DeveloperDetailDto::fromEntity)
+                    .collect(Collectors.toList());
+            if (locked.isEmpty())
+                continue;
+
+            int updated = developerRepository.updateStatusCodeByMemberIdIn(
+                    StatusCode.EMPLOYED, StatusCode.RETIRED, now,
+                    locked.stream().map(DeveloperDetailDto::getMemberId).collect(Collectors.toList()));
+            // 잠근 행은 다른 트랜잭션이 바꿀 수 없으므로 수가 다르면 잠금이 동작하지 않은 것이다.
+            if (updated != locked.size())
+                throw new IllegalStateException(
+                        "retired " + updated + " developers but locked " + locked.size());
+            developers.addAll(locked);
+        }
+
+        DeveloperStatisticsService.Changes changes = new DeveloperStatisticsService.Changes();
+        for (DeveloperDetailDto developer : developers) {
+            retiredChanges(developer.getDeveloperLevel(), developer.getDeveloperSkillType(), changes);
+        }
+        developerStatisticsService.apply(changes);
+
+        // 벌크 update 가 올린 version 을 그대로 반영한다.
+        for (DeveloperDetailDto developer : developers) {
+            developer.setStatusCode(StatusCode.RETIRED);
+            developer.setVersion(developer.getVersion() + 1);
+        }
+        developerEventService.publish(DeveloperEventType.RETIRED, developers);
+
+        Cache detailCache = cacheManager.getCache(DEVELOPER_DETAIL_CACHE);
+        developers.forEach(developer -> detailCache.put(developer.getMemberId(), developer));
+
+        retiredDeveloperRepository.saveAll(developers.stream()
+                .map(developer -> RetiredDeveloper.builder()
+                        .memberId(developer.getMemberId())
+                        .name(developer.getName())
+                        .build())
+                .collect(Collectors.toList()));
+
+        Set<String> retiredMemberIds = developers.stream()
+                .map(DeveloperDetailDto::getMemberId)
+                .collect(Collectors.toSet());
+
+        return BulkRetireDeveloper.Response.builder()
+                .retiredCount(developers.size())
+                .notFoundMemberIds(requestedMemberIds.stream()
+                        .filter(memberId -> !retiredMemberIds.contains(memberId))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static DeveloperStatisticsService.Changes retiredChanges(
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType,
+            DeveloperStatisticsService.Changes changes
+    ) {
+        return changes
+                .add(StatusCode.EMPLOYED, developerLevel, developerSkillType, -1)
+                .add(StatusCode.RETIRED, developerLevel, developerSkillType, 1);
+    }
 }
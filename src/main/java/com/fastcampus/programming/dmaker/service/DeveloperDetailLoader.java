@@ -0,0 +1,37 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+// GET /developer/{memberId} 에서 같은 memberId 로 동시에 들어온 요청은 한 번만 조회한다.
+// 상세 캐시가 비어 있을 때(만료, 재시작 직후) 같은 개발자를 동시에 찾는 요청이 몰리면
+// 요청 수만큼 쿼리가 나가던 것을 memberId 당 하나로 줄인다.
+//
+// 합쳐진 비율은 shared / (leader + shared) 로 본다.
+//   sum(rate(dmaker_developer_detail_loads_total{result="shared"}[1m]))
+//     / sum(rate(dmaker_developer_detail_loads_total[1m]))
+@Service
+public class DeveloperDetailLoader {
+    private final DMakerService dMakerService;
+    private final SingleFlight<String, DeveloperDetailDto> singleFlight = new SingleFlight<>();
+
+    public DeveloperDetailLoader(DMakerService dMakerService, MeterRegistry meterRegistry) {
+        this.dMakerService = dMakerService;
+
+        FunctionCounter.builder("dmaker.developer.detail.loads", singleFlight, SingleFlight::getLeaders)
+                .tag("result", "leader")
+                .register(meterRegistry);
+        FunctionCounter.builder("dmaker.developer.detail.loads", singleFlight, SingleFlight::getShared)
+                .tag("result", "shared")
+                .register(meterRegistry);
+        Gauge.builder("dmaker.developer.detail.loads.in.flight", singleFlight, SingleFlight::getInFlight)
+                .register(meterRegistry);
+    }
+
+    public DeveloperDetailDto load(String memberId) {
+        return singleFlight.execute(memberId, () -> dMakerService.getDeveloperDetail(memberId));
+    }
+}
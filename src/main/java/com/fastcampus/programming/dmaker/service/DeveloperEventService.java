@@ -0,0 +1,146 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventCursor;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventPage;
+import com.fastcampus.programming.dmaker.entity.DeveloperEvent;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+// 개발자 변경 이벤트 피드.
+// 전체 목록을 주기적으로 다시 읽는 대신, 마지막으로 받은 커서 이후의 변경만 읽어가게 한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeveloperEventService {
+    private final DeveloperEventRepository developerEventRepository;
+
+    @Value("${dmaker.events.retention}")
+    private Duration retention;
+
+    // 이벤트를 만든 뒤 커밋까지 걸릴 수 있는 최대 시간.
+    // 이보다 최근에 만들어진 이벤트는 앞 순서의 이벤트가 아직 커밋 전일 수 있어서 피드에 내보내지 않는다.
+    // 트랜잭션이 이보다 오래 걸리거나 서버 간 시계 차이가 이보다 크면 이벤트를 놓칠 수 있다.
+    @Value("${dmaker.events.commit-lag}")
+    private Duration commitLag;
+
+    // 개발자 변경과 같은 트랜잭션에서만 호출된다. 롤백되면 이벤트도 남지 않는다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DeveloperEventType eventType, DeveloperDetailDto developer) {
+        developerEventRepository.save(toEvent(eventType, developer, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DeveloperEventType eventType, Collection<DeveloperDetailDto> developers) {
+        if (developers.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        developerEventRepository.saveAll(developers.stream()
+                .map(developer -> toEvent(eventType, developer, now))
+                .collect(Collectors.toList()));
+    }
+
+    private static DeveloperEvent toEvent(
+            DeveloperEventType eventType,
+            DeveloperDetailDto developer,
+            LocalDateTime createdAt
+    ) {
+        return DeveloperEvent.builder()
+                .eventType(eventType)
+                .memberId(developer.getMemberId())
+                .developerLevel(developer.getDeveloperLevel())
+                .developerSkillType(developer.getDeveloperSkillType())
+                .experienceYears(developer.getExperienceYears())
+                .name(developer.getName())
+                .age(developer.getAge())
+                .statusCode(developer.getStatusCode())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Transactional // primary 에서 읽는다. (getEventsAfter)
+    public DeveloperEventPage getEvents(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        DeveloperEventCursor decoded = DeveloperEventCursor.decode(cursor);
+        // 그대로 이어 읽으면 지워진 중간 변경을 모르고 넘어가므로 410 으로 다시 시작하게 한다.
+        if (isExpired(decoded))
+            throw new DMakerException(DMakerErrorCode.EVENT_CURSOR_EXPIRED);
+
+        return getEventsAfter(decoded, pageSize);
+    }
+
+    // 이 시각 이전에 만들어진 이벤트만 커밋이 끝난 것으로 보고 읽는다.
+    public LocalDateTime visibleBefore() {
+        return LocalDateTime.now().minus(commitLag);
+    }
+
+    // 보관 기간보다 오래된 커서 이후의 이벤트는 compaction 으로 지워졌을 수 있다.
+    // 커서 없이 처음부터 읽는 경우는 memberId 별 최신 이벤트가 남아 있으므로 괜찮다.
+    public boolean isExpired(DeveloperEventCursor cursor) {
+        return !cursor.isFirst() && cursor.getCreatedAt().isBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // 커서 이후의 이벤트를 (createdAt, id) 순서로 읽는다.
+    // commit-lag 보다 오래된 이벤트만 읽으므로, 먼저 만들어졌지만 늦게 커밋된 이벤트도 건너뛰지 않는다.
+    // 다 읽었으면 다음 커서를 읽을 수 있는 경계(now - commit-lag)까지 옮겨서 새 이벤트가 없어도 커서가 오래되지 않게 한다.
+    // 경계는 primary 의 커밋 기준이므로 readOnly 로 두지 않는다. 레플리카는 max-lag + 지연 확인 주기만큼 늦을 수 있어서
+    // 레플리카에 아직 없는 이벤트 뒤로 커서를 옮기면 그 이벤트는 다시 읽히지 않는다.
+    @Transactional
+    public DeveloperEventPage getEventsAfter(DeveloperEventCursor cursor, int size) {
+        return getEventsAfter(cursor, size, visibleBefore());
+    }
+
+    // 여러 커서를 같은 경계로 읽을 때 사용한다. (DeveloperEventStream)
+    // 경계가 같아야 다 읽은 커서들이 같은 경계 커서로 모여서 다음 주기에 한 번만 읽힌다.
+    @Transactional
+    public DeveloperEventPage getEventsAfter(DeveloperEventCursor cursor, int size, LocalDateTime visibleBefore) {
+        List<DeveloperEventDto> events = developerEventRepository.findEventDtosAfter(
+                cursor.getCreatedAt(), cursor.getId(), visibleBefore, PageRequest.of(0, size));
+
+        DeveloperEventCursor next;
+        if (events.size() == size) {
+            next = DeveloperEventCursor.of(events.get(events.size() - 1));
+        } else {
+            DeveloperEventCursor boundary = new DeveloperEventCursor(visibleBefore, 0L);
+            next = boundary.isAfter(cursor) ? boundary : cursor;
+        }
+
+        return DeveloperEventPage.builder()
+                .events(events)
+                .next(next.encode())
+                .build();
+    }
+
+    // 보관 기간이 지난 이벤트 중 같은 memberId 의 최신 이벤트만 남긴다.
+    // 보관 기간 안의 커서로 읽는 소비자는 모든 이벤트를 받고,
+    // 그보다 오래된 커서로 읽는 소비자도 memberId 별 최신 상태는 받게 된다.
+    @Scheduled(fixedDelayString = "${dmaker.events.compaction-interval-ms}")
+    @Transactional
+    public void compact() {
+        int deleted = developerEventRepository.deleteSupersededBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0)
+            log.info("developer events compacted {}", kv("deleted", deleted));
+    }
+}
@@ -0,0 +1,184 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.DeveloperEventCursor;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventPage;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+// 개발자 변경 이벤트를 SSE 로 밀어준다.
+// 조회와 전송은 전용 스레드 풀에서 하고, 스케줄러 스레드는 작업을 나눠주기만 한다.
+// 느린 구독자는 전송 스레드 하나만 붙잡고, 다른 구독자나 다른 스케줄 작업을 막지 않는다.
+@Slf4j
+@Component
+public class DeveloperEventStream implements DisposableBean {
+    private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final String RESET_EVENT = "RESET";
+
+    private final DeveloperEventService developerEventService;
+    private final ExecutorService executor;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public DeveloperEventStream(
+            DeveloperEventService developerEventService,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.events.stream-threads}") int streamThreads
+    ) {
+        this.developerEventService = developerEventService;
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry,
+                Executors.newFixedThreadPool(streamThreads, new CustomizableThreadFactory("developer-event-stream-")),
+                "developer-event-stream");
+    }
+
+    public SseEmitter subscribe(String cursor) {
+        DeveloperEventCursor decoded = DeveloperEventCursor.decode(cursor);
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        if (developerEventService.isExpired(decoded)) {
+            reset(emitter);
+            return emitter;
+        }
+
+        Subscription subscription = new Subscription(emitter, decoded);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        // 직접 완료하지 않으면 AsyncRequestTimeoutException 으로 에러 응답을 만들려고 한다.
+        // 클라이언트는 Last-Event-ID 로 다시 연결한다.
+        emitter.onTimeout(() -> {
+            subscriptions.remove(subscription);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+
+        return emitter;
+    }
+
+    // SSE 클라이언트는 에러 응답 본문을 받지 못하므로 RESET 이벤트를 보내고 끝낸다.
+    // 클라이언트는 전체 목록을 다시 읽고 커서 없이 다시 구독한다.
+    private static void reset(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(RESET_EVENT)
+                    .data(DMakerErrorCode.EVENT_CURSOR_EXPIRED.getMessage()));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 이전 전송이 아직 끝나지 않은 구독자는 이번 주기에서 건너뛴다.
+    // 커서가 같은 구독자는 한 번만 읽는다. 이번 주기의 모든 조회가 같은 경계(visibleBefore)를 쓰므로
+    // 다 읽은 구독자들은 같은 경계 커서로 끝나고, 다음 주기에 한 그룹으로 묶인다.
+    @Scheduled(fixedDelayString = "${dmaker.events.stream-poll-interval-ms}")
+    public void poll() {
+        Map<DeveloperEventCursor, List<Subscription>> groups = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.busy.compareAndSet(false, true))
+                groups.computeIfAbsent(subscription.cursor, cursor -> new ArrayList<>()).add(subscription);
+        }
+
+        LocalDateTime visibleBefore = developerEventService.visibleBefore();
+        groups.forEach((cursor, group) -> execute(() -> deliver(cursor, group, visibleBefore)));
+    }
+
+    private void deliver(DeveloperEventCursor cursor, List<Subscription> group, LocalDateTime visibleBefore) {
+        // 전송이 오래 밀린 구독자는 그 사이 커서가 보관 기간을 넘겼을 수 있다.
+        if (developerEventService.isExpired(cursor)) {
+            for (Subscription subscription : group) {
+                subscriptions.remove(subscription);
+                reset(subscription.emitter);
+            }
+            return;
+        }
+
+        DeveloperEventPage page;
+        try {
+            page = developerEventService.getEventsAfter(cursor, MAX_PAGE_SIZE, visibleBefore);
+        } catch (RuntimeException e) {
+            log.warn("developer event stream read failed: {}", e.getMessage());
+            group.forEach(subscription -> subscription.busy.set(false));
+            return;
+        }
+
+        // 구독자마다 따로 보내서 한 구독자가 느려도 나머지는 기다리지 않는다.
+        for (Subscription subscription : group) {
+            execute(() -> send(subscription, page, visibleBefore));
+        }
+    }
+
+    private void send(Subscription subscription, DeveloperEventPage page, LocalDateTime visibleBefore) {
+        try {
+            for (DeveloperEventDto event : page.getEvents()) {
+                // 커서를 id 로 내려주므로 재연결할 때 Last-Event-ID 로 이어받을 수 있다.
+                DeveloperEventCursor cursor = DeveloperEventCursor.of(event);
+                subscription.emitter.send(SseEmitter.event()
+                        .id(cursor.encode())
+                        .name(event.getEventType().name())
+                        .data(event));
+                subscription.cursor = cursor;
+            }
+            subscription.cursor = DeveloperEventCursor.decode(page.getNext());
+        } catch (IOException | IllegalStateException e) {
+            log.debug("developer event subscriber disconnected: {}", e.getMessage());
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+            return;
+        }
+
+        // 뒤처진 구독자는 다음 주기를 기다리지 않고 이어서 읽는다.
+        // 같은 경계까지만 읽어서 다른 구독자와 같은 경계 커서로 끝나게 한다.
+        if (page.getEvents().size() == MAX_PAGE_SIZE) {
+            execute(() -> deliver(subscription.cursor, Collections.singletonList(subscription), visibleBefore));
+            return;
+        }
+        subscription.busy.set(false);
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("developer event stream is shutting down");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // cursor 는 전송 스레드에서 바꾸고 스케줄러 스레드에서 읽는다.
+    // busy 가 true 인 동안은 한 작업만 이 구독자를 다룬다.
+    private static class Subscription {
+        private final SseEmitter emitter;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile DeveloperEventCursor cursor;
+
+        private Subscription(SseEmitter emitter, DeveloperEventCursor cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
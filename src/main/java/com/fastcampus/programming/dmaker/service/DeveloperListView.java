@@ -0,0 +1,218 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.IN_QUERY_CHUNK_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+// 재직 중인 개발자 전체 목록(GET /developers/all)을 JSON 바이트로 미리 만들어 둔다.
+// 요청마다 직렬화하지 않고 같은 byte[] 를 그대로 내려주므로 요청당 할당이 거의 없다.
+//
+// 개발자별 JSON 조각을 id 순으로 들고 있고, 이벤트 피드에서 바뀐 memberId 만 다시 읽어서 해당 조각만 다시 직렬화한다.
+// 목록 바이트와 gzip 은 조각이 실제로 바뀐 경우에만 다시 만든다.
+@Slf4j
+@Service
+public class DeveloperListView {
+    private static final byte[] EMPTY_LIST = {'[', ']'};
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperEventRepository developerEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Timer rebuildTimer;
+    private final Duration eventLag;
+
+    // 아래 필드는 refresh 에서만(synchronized) 바꾼다.
+    private final TreeMap<Long, byte[]> entries = new TreeMap<>();
+    private final Map<String, Long> idsByMemberId = new HashMap<>();
+    private long eventOffset;
+    private LocalDateTime refreshedAt;
+
+    private volatile Encoded encoded;
+
+    public DeveloperListView(
+            DeveloperRepository developerRepository,
+            DeveloperEventRepository developerEventRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.developer-list.event-lag}") Duration eventLag
+    ) {
+        this.developerRepository = developerRepository;
+        this.developerEventRepository = developerEventRepository;
+        this.objectMapper = objectMapper;
+        this.rebuildTimer = Timer.builder("dmaker.developer.list.rebuild")
+                .register(meterRegistry);
+        this.eventLag = eventLag;
+    }
+
+    public Encoded get() {
+        Encoded current = encoded;
+        if (current == null) {
+            refresh();
+            current = encoded;
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${dmaker.developer-list.refresh-interval-ms}")
+    public synchronized void refresh() {
+        // offset 을 먼저 읽어두고 목록을 읽는다. 그 사이의 변경은 다음 refresh 에서 다시 읽는다.
+        long offset = developerEventRepository.findMaxId();
+        LocalDateTime now = LocalDateTime.now();
+
+        boolean changed;
+        if (encoded == null) {
+            loadAll();
+            changed = true;
+        } else {
+            changed = apply(developerEventRepository.findMemberIdsChangedSince(
+                    eventOffset, refreshedAt.minus(eventLag)));
+        }
+
+        eventOffset = offset;
+        refreshedAt = now;
+        if (changed)
+            rebuild();
+    }
+
+    private void loadAll() {
+        long id = 0L;
+        List<DeveloperDto> page;
+        do {
+            page = developerRepository.findDeveloperDtosByStatusCode(
+                    StatusCode.EMPLOYED, id, PageRequest.ofSize(MAX_PAGE_SIZE));
+            for (DeveloperDto developer : page)
+                put(developer);
+            if (!page.isEmpty())
+                id = page.get(page.size() - 1).getId();
+        } while (page.size() == MAX_PAGE_SIZE);
+    }
+
+    // 바뀐 memberId 를 다시 읽어서 재직 중이면 조각을 바꾸고 아니면 뺀다.
+    // 다시 읽은 조각이 이전과 같으면(event-lag 구간에서 다시 확인한 경우) 바뀌지 않은 것으로 본다.
+    private boolean apply(List<String> memberIds) {
+        boolean changed = false;
+        for (int from = 0; from < memberIds.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<String> chunk = memberIds.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, memberIds.size()));
+            Map<String, DeveloperDto> employed = developerRepository
+                    .findDeveloperDtosByStatusCodeAndMemberIdIn(StatusCode.EMPLOYED, chunk).stream()
+                    .collect(Collectors.toMap(DeveloperDto::getMemberId, Function.identity()));
+
+            for (String memberId : chunk) {
+                DeveloperDto developer = employed.get(memberId);
+                if (developer != null) {
+                    changed |= put(developer);
+                } else {
+                    Long id = idsByMemberId.remove(memberId);
+                    if (id != null) {
+                        entries.remove(id);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    private boolean put(DeveloperDto developer) {
+        byte[] entry = serialize(developer);
+        Long previousId = idsByMemberId.put(developer.getMemberId(), developer.getId());
+        if (previousId != null && !previousId.equals(developer.getId()))
+            entries.remove(previousId);
+
+        byte[] previous = entries.put(developer.getId(), entry);
+        return previous == null || !Arrays.equals(previous, entry);
+    }
+
+    private byte[] serialize(DeveloperDto developer) {
+        try {
+            return objectMapper.writeValueAsBytes(developer);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+
+        byte[] json;
+        if (entries.isEmpty()) {
+            json = EMPTY_LIST;
+        } else {
+            int length = entries.size() + 1; // '[' + ',' * (n - 1) + ']'
+            for (byte[] entry : entries.values())
+                length += entry.length;
+
+            json = new byte[length];
+            json[0] = '[';
+            int position = 1;
+            for (byte[] entry : entries.values()) {
+                if (position > 1)
+                    json[position++] = ',';
+                System.arraycopy(entry, 0, json, position, entry.length);
+                position += entry.length;
+            }
+            json[position] = ']';
+        }
+
+        String hash = DigestUtils.md5DigestAsHex(json);
+        encoded = new Encoded(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("developer list rebuilt {} {} {}",
+                kv("count", entries.size()), kv("bytes", json.length),
+                kv("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsed)));
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.length / 4, 32));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 한 번 만든 뒤에는 바꾸지 않는다. 갱신하면 새로 만들어서 통째로 교체한다.
+    // ETag 는 인코딩마다 다른 강한 ETag 를 쓴다.
+    @Getter
+    @AllArgsConstructor
+    public static class Encoded {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String eTag;
+        private final String gzipETag;
+    }
+}
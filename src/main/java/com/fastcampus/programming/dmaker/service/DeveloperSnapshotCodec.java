@@ -0,0 +1,201 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// DeveloperDetailDto 목록을 고정 순서의 바이너리로 저장/복원한다.
+//
+// header : magic(int) formatVersion(int) eventOffset(long) takenAt(long, epoch millis) count(int)
+// record : level(byte) skill(byte) status(byte) experienceYears(int) age(int) version(long)
+//          memberId(short length + UTF-8) name(short length + UTF-8)
+// enum 은 ordinal, null 은 -1 로 저장한다. 문자열 길이는 unsigned short 이고 0xFFFF 가 null 이다. (enum 순서를 바꾸면 FORMAT_VERSION 을 올려야 한다)
+public class DeveloperSnapshotCodec {
+    private static final int MAGIC = 0x444D4B53; // "DMKS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int COUNT_POSITION = 4 + 4 + 8 + 8;
+    private static final int HEADER_SIZE = COUNT_POSITION + 4;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int NULL_STRING = 0xFFFF;
+
+    private static final DeveloperLevel[] DEVELOPER_LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] DEVELOPER_SKILL_TYPES = DeveloperSkillType.values();
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+
+    // 레코드를 목록으로 만들지 않고 next() 할 때마다 하나씩 읽는다.
+    // 매핑은 채널을 닫은 뒤에도 유효하고, Snapshot 이 GC 될 때 풀린다.
+    public static class Snapshot implements Iterator<DeveloperDetailDto> {
+        @Getter
+        private final long eventOffset;
+        @Getter
+        private final Instant takenAt;
+        @Getter
+        private final int count;
+        private final ByteBuffer buffer;
+        private int read;
+
+        private Snapshot(long eventOffset, Instant takenAt, int count, ByteBuffer buffer) {
+            this.eventOffset = eventOffset;
+            this.takenAt = takenAt;
+            this.count = count;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read < count;
+        }
+
+        @Override
+        public DeveloperDetailDto next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            read++;
+
+            DeveloperLevel developerLevel = valueOf(DEVELOPER_LEVELS, buffer.get());
+            DeveloperSkillType developerSkillType = valueOf(DEVELOPER_SKILL_TYPES, buffer.get());
+            StatusCode statusCode = valueOf(STATUS_CODES, buffer.get());
+            int experienceYears = buffer.getInt();
+            int age = buffer.getInt();
+            long version = buffer.getLong();
+
+            return new DeveloperDetailDto(
+                    developerLevel,
+                    developerSkillType,
+                    experienceYears < 0 ? null : experienceYears,
+                    getString(buffer),
+                    getString(buffer),
+                    age < 0 ? null : age,
+                    statusCode,
+                    version < 0 ? null : version);
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 rename 하므로 읽는 쪽은 항상 완성된 파일만 본다.
+    // 개수를 미리 알 필요가 없도록 header 의 count 는 마지막에 채운다.
+    public static int write(
+            Path path,
+            long eventOffset,
+            Instant takenAt,
+            Iterator<DeveloperDetailDto> developers
+    ) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        int count = 0;
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(eventOffset)
+                    .putLong(takenAt.toEpochMilli())
+                    .putInt(0);
+
+            while (developers.hasNext()) {
+                DeveloperDetailDto developer = developers.next();
+                byte[] memberId = toBytes(developer.getMemberId());
+                byte[] name = toBytes(developer.getName());
+                int size = 3 + 4 + 4 + 8 + stringSize(memberId) + stringSize(name);
+                if (buffer.remaining() < size)
+                    flush(channel, buffer);
+
+                buffer.put(ordinal(developer.getDeveloperLevel()))
+                        .put(ordinal(developer.getDeveloperSkillType()))
+                        .put(ordinal(developer.getStatusCode()))
+                        .putInt(developer.getExperienceYears() == null ? -1 : developer.getExperienceYears())
+                        .putInt(developer.getAge() == null ? -1 : developer.getAge())
+                        .putLong(developer.getVersion() == null ? -1 : developer.getVersion());
+                putString(buffer, memberId);
+                putString(buffer, name);
+                count++;
+            }
+            flush(channel, buffer);
+
+            channel.write(ByteBuffer.allocate(4).putInt(0, count), COUNT_POSITION);
+            channel.force(true);
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    // 파일 전체를 메모리 매핑하고 header 만 읽는다. (page cache 에서 바로 읽으므로 read 호출/복사가 없다)
+    // 레코드는 반환된 Snapshot 을 순회하면서 읽는다.
+    public static Snapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+                throw new IOException("invalid snapshot size: " + size);
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+                throw new IOException("unsupported snapshot format: " + path);
+
+            long eventOffset = buffer.getLong();
+            Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+
+            return new Snapshot(eventOffset, takenAt, count, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? -1 : (byte) value.ordinal();
+    }
+
+    private static <E> E valueOf(E[] values, byte ordinal) {
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    private static byte[] toBytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] value) {
+        return 2 + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) NULL_STRING);
+            return;
+        }
+        buffer.putShort((short) value.length).put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length == NULL_STRING)
+            return null;
+
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
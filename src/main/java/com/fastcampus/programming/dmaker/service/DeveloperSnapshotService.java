@@ -0,0 +1,158 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.config.DeveloperDetailCache;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_DETAIL_CACHE;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+// dmaker.snapshot.enabled=true 일 때
+// 재직 중인 개발자 상세를 주기적으로 로컬 파일에 써두고, 재시작할 때 그 파일로 상세 캐시를 미리 채운다.
+// ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행된다.
+//
+// 스냅샷에는 쓰기 시작 시점의 이벤트 offset 을 함께 저장한다.
+// 불러올 때 그 이후(또는 커밋이 늦은 트랜잭션을 고려해 takenAt - event-lag 이후)에 바뀐 memberId 는 캐시에 넣지 않는다.
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "dmaker.snapshot", name = "enabled", havingValue = "true")
+public class DeveloperSnapshotService implements ApplicationRunner {
+    private final DeveloperRepository developerRepository;
+    private final DeveloperEventRepository developerEventRepository;
+    private final CacheManager cacheManager;
+    private final Timer writeTimer;
+    private final Timer loadTimer;
+
+    private final Path path;
+    private final int warmLimit;
+    private final Duration eventLag;
+
+    public DeveloperSnapshotService(
+            DeveloperRepository developerRepository,
+            DeveloperEventRepository developerEventRepository,
+            CacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            @Value("${dmaker.snapshot.path}") String path,
+            @Value("${dmaker.snapshot.warm-limit}") int warmLimit,
+            @Value("${dmaker.snapshot.event-lag}") Duration eventLag
+    ) {
+        this.developerRepository = developerRepository;
+        this.developerEventRepository = developerEventRepository;
+        this.cacheManager = cacheManager;
+        this.writeTimer = Timer.builder("dmaker.snapshot")
+                .tag("operation", "write")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("dmaker.snapshot")
+                .tag("operation", "load")
+                .register(meterRegistry);
+        this.path = Paths.get(path);
+        this.warmLimit = warmLimit;
+        this.eventLag = eventLag;
+    }
+
+    @Scheduled(
+            initialDelayString = "${dmaker.snapshot.interval-ms}",
+            fixedDelayString = "${dmaker.snapshot.interval-ms}")
+    @Transactional(readOnly = true)
+    public void writeSnapshot() {
+        long start = System.nanoTime();
+        long eventOffset = developerEventRepository.findMaxId();
+        Instant takenAt = Instant.now();
+
+        try (Stream<DeveloperDetailDto> developers =
+                     developerRepository.streamDetailsByStatusCode(StatusCode.EMPLOYED)) {
+            int count = DeveloperSnapshotCodec.write(path, eventOffset, takenAt, developers.iterator());
+            long elapsed = System.nanoTime() - start;
+            writeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("developer snapshot written {} {} {}",
+                    kv("count", count), kv("eventOffset", eventOffset),
+                    kv("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        } catch (IOException e) {
+            log.warn("developer snapshot write failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Files.exists(path)) {
+            log.info("developer snapshot not found {}", kv("path", path));
+            return;
+        }
+
+        long start = System.nanoTime();
+        DeveloperSnapshotCodec.Snapshot snapshot;
+        try {
+            snapshot = DeveloperSnapshotCodec.open(path);
+        } catch (IOException | RuntimeException e) {
+            // 스냅샷이 없거나 깨져도 캐시가 빈 채로 시작할 뿐이다.
+            log.warn("developer snapshot load failed: {}", e.getMessage());
+            return;
+        }
+
+        DeveloperDetailCache cache = detailCache();
+        if (cache == null)
+            return;
+
+        Set<String> changedMemberIds = new HashSet<>(developerEventRepository.findMemberIdsChangedSince(
+                snapshot.getEventOffset(),
+                LocalDateTime.ofInstant(snapshot.getTakenAt().minus(eventLag), ZoneId.systemDefault())));
+
+        // 레코드를 하나씩 읽어서 바로 캐시에 넣는다. (스냅샷 전체를 목록으로 만들지 않는다)
+        int warmed = 0;
+        try {
+            while (warmed < warmLimit && snapshot.hasNext()) {
+                DeveloperDetailDto developer = snapshot.next();
+                if (changedMemberIds.contains(developer.getMemberId()))
+                    continue;
+
+                cache.putWarm(developer.getMemberId(), developer);
+                warmed++;
+            }
+        } catch (RuntimeException e) {
+            // 중간이 깨진 파일이면 그때까지 넣은 값만 쓴다.
+            log.warn("developer snapshot load stopped {}: {}", kv("warmed", warmed), e.getMessage());
+        }
+
+        long elapsed = System.nanoTime() - start;
+        loadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("developer detail cache warmed from snapshot {} {} {}",
+                kv("warmed", warmed), kv("skipped", changedMemberIds.size()),
+                kv("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsed)));
+    }
+
+    // 캐시를 끈 경우(NoOpCacheManager)에는 채울 캐시가 없다.
+    private DeveloperDetailCache detailCache() {
+        Cache cache = cacheManager.getCache(DEVELOPER_DETAIL_CACHE);
+        if (cache instanceof TransactionAwareCacheDecorator decorator)
+            cache = decorator.getTargetCache();
+        return cache instanceof DeveloperDetailCache detailCache ? detailCache : null;
+    }
+}
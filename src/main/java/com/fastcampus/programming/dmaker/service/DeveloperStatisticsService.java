@@ -0,0 +1,157 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperHeadcountDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperStatistics;
+import com.fastcampus.programming.dmaker.entity.DeveloperHeadcount;
+import com.fastcampus.programming.dmaker.repository.DeveloperHeadcountRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// (상태, 레벨, 스킬) 조합별 개발자 수를 미리 집계해둔다.
+// 조합 수(2 x 4 x 3)만큼의 행만 읽으므로 개발자 수와 관계없이 조회 비용이 일정하다.
+@Service
+@RequiredArgsConstructor
+public class DeveloperStatisticsService {
+    private static final StatusCode[] STATUS_CODES = StatusCode.values();
+    private static final DeveloperLevel[] DEVELOPER_LEVELS = DeveloperLevel.values();
+    private static final DeveloperSkillType[] DEVELOPER_SKILL_TYPES = DeveloperSkillType.values();
+
+    private final DeveloperHeadcountRepository developerHeadcountRepository;
+    private final DeveloperRepository developerRepository;
+
+    // 개발자 변경과 같은 트랜잭션에서만 호출된다. 롤백되면 집계도 함께 롤백된다.
+    // 여러 조합을 바꿀 때 트랜잭션끼리 데드락이 나지 않도록 항상 enum 순서대로 update 한다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Changes changes) {
+        for (int s = 0; s < STATUS_CODES.length; s++) {
+            for (int l = 0; l < DEVELOPER_LEVELS.length; l++) {
+                for (int k = 0; k < DEVELOPER_SKILL_TYPES.length; k++) {
+                    long delta = changes.deltas[s][l][k];
+                    if (delta == 0)
+                        continue;
+
+                    if (developerHeadcountRepository.addHeadcount(
+                            STATUS_CODES[s], DEVELOPER_LEVELS[l], DEVELOPER_SKILL_TYPES[k], delta) == 0)
+                        developerHeadcountRepository.save(DeveloperHeadcount.builder()
+                                .statusCode(STATUS_CODES[s])
+                                .developerLevel(DEVELOPER_LEVELS[l])
+                                .developerSkillType(DEVELOPER_SKILL_TYPES[k])
+                                .headcount(delta)
+                                .build());
+                }
+            }
+        }
+    }
+
+    // 값이 없는 조건은 적용하지 않는다.
+    @Transactional(readOnly = true)
+    public DeveloperStatistics getStatistics(
+            StatusCode statusCode,
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType
+    ) {
+        List<DeveloperHeadcountDto> headcounts = developerHeadcountRepository.findAll(Sort.by("id"))
+                .stream()
+                .filter(headcount -> statusCode == null || headcount.getStatusCode() == statusCode)
+                .filter(headcount -> developerLevel == null || headcount.getDeveloperLevel() == developerLevel)
+                .filter(headcount -> developerSkillType == null
+                        || headcount.getDeveloperSkillType() == developerSkillType)
+                .map(DeveloperHeadcountDto::fromEntity)
+                .collect(Collectors.toList());
+
+        return DeveloperStatistics.builder()
+                .total(headcounts.stream().mapToLong(DeveloperHeadcountDto::getHeadcount).sum())
+                .headcounts(headcounts)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        recomputeHeadcounts();
+    }
+
+    // Developer 테이블을 다시 집계해서 맞춘다. 운영 중 어긋났을 때 수동으로 호출한다.
+    @Transactional
+    public DeveloperStatistics recompute() {
+        recomputeHeadcounts();
+
+        return getStatistics(null, null, null);
+    }
+
+    // 집계하기 전에 조합 행을 모두 잠근다.
+    // 잠금 전에 증감(apply)한 트랜잭션은 커밋할 때까지 기다리므로 그 변경은 아래 집계에 포함되고,
+    // 잠금 후에 증감하려는 트랜잭션은 재집계가 커밋된 뒤 그 위에 더하므로 값이 덮어써지지 않는다.
+    // apply 와 같은 enum 순서로 잠가서 데드락이 나지 않게 한다.
+    private void recomputeHeadcounts() {
+        DeveloperHeadcount[][][] rows =
+                new DeveloperHeadcount[STATUS_CODES.length][DEVELOPER_LEVELS.length][DEVELOPER_SKILL_TYPES.length];
+        for (int s = 0; s < STATUS_CODES.length; s++) {
+            for (int l = 0; l < DEVELOPER_LEVELS.length; l++) {
+                for (int k = 0; k < DEVELOPER_SKILL_TYPES.length; k++) {
+                    rows[s][l][k] = developerHeadcountRepository
+                            .findForUpdateByStatusCodeAndDeveloperLevelAndDeveloperSkillType(
+                                    STATUS_CODES[s], DEVELOPER_LEVELS[l], DEVELOPER_SKILL_TYPES[k])
+                            .orElse(null);
+                }
+            }
+        }
+
+        long[][][] counts = new long[STATUS_CODES.length][DEVELOPER_LEVELS.length][DEVELOPER_SKILL_TYPES.length];
+        for (DeveloperHeadcountDto count : developerRepository.countGroupByStatusCodeAndLevelAndSkillType()) {
+            if (count.getStatusCode() == null || count.getDeveloperLevel() == null
+                    || count.getDeveloperSkillType() == null)
+                continue;
+            counts[count.getStatusCode().ordinal()]
+                    [count.getDeveloperLevel().ordinal()]
+                    [count.getDeveloperSkillType().ordinal()] = count.getHeadcount();
+        }
+
+        List<DeveloperHeadcount> updated = new ArrayList<>();
+        for (int s = 0; s < STATUS_CODES.length; s++) {
+            for (int l = 0; l < DEVELOPER_LEVELS.length; l++) {
+                for (int k = 0; k < DEVELOPER_SKILL_TYPES.length; k++) {
+                    DeveloperHeadcount row = rows[s][l][k];
+                    if (row == null)
+                        row = DeveloperHeadcount.builder()
+                                .statusCode(STATUS_CODES[s])
+                                .developerLevel(DEVELOPER_LEVELS[l])
+                                .developerSkillType(DEVELOPER_SKILL_TYPES[k])
+                                .build();
+                    row.setHeadcount(counts[s][l][k]);
+                    updated.add(row);
+                }
+            }
+        }
+        developerHeadcountRepository.saveAll(updated);
+    }
+
+    // 한 트랜잭션에서 바뀌는 조합별 증감량
+    public static class Changes {
+        private final long[][][] deltas =
+                new long[STATUS_CODES.length][DEVELOPER_LEVELS.length][DEVELOPER_SKILL_TYPES.length];
+
+        public Changes add(
+                StatusCode statusCode,
+                DeveloperLevel developerLevel,
+                DeveloperSkillType developerSkillType,
+                long delta
+        ) {
+            deltas[statusCode.ordinal()][developerLevel.ordinal()][developerSkillType.ordinal()] += delta;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.dto.KeysetCursor;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.ReactiveDeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+
+// DMakerService 의 읽기 API 를 R2DBC 로 제공한다. (ReactiveConfig)
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "dmaker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveDMakerService {
+    private final ReactiveDeveloperRepository reactiveDeveloperRepository;
+
+    // 재직 중인 개발자를 id 순으로 끝까지 흘려보낸다.
+    // 한 번에 MAX_PAGE_SIZE 만큼만 읽고, 다음 페이지는 앞 페이지를 다 내보낸 뒤(구독자가 더 요청할 때) 읽는다.
+    public Flux<DeveloperDto> streamEmployedDevelopers(String cursor) {
+        return Flux.defer(() -> readPage(KeysetCursor.decode(cursor), MAX_PAGE_SIZE))
+                .expand(page -> page.size() < MAX_PAGE_SIZE
+                        ? Mono.empty()
+                        : readPage(page.get(page.size() - 1).getId(), MAX_PAGE_SIZE))
+                .concatMapIterable(page -> page);
+    }
+
+    // 한 페이지만 읽는다. (DMakerService.getEmployedDevelopers 와 같다)
+    // 필요한 만큼(size + 1)만 읽고, 남은 개발자가 있으면 다음 커서를 함께 돌려준다.
+    public Mono<DeveloperPage> getEmployedDevelopers(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        return Mono.defer(() -> readPage(KeysetCursor.decode(cursor), pageSize + 1))
+                .map(developers -> {
+                    boolean hasNext = developers.size() > pageSize;
+                    List<DeveloperDto> page = hasNext ? developers.subList(0, pageSize) : developers;
+
+                    return DeveloperPage.builder()
+                            .developers(page)
+                            .next(hasNext ? KeysetCursor.encode(page.get(pageSize - 1).getId()) : null)
+                            .build();
+                });
+    }
+
+    private Mono<List<DeveloperDto>> readPage(long id, int limit) {
+        return reactiveDeveloperRepository
+                .findDeveloperDtosByStatusCode(StatusCode.EMPLOYED, id, limit)
+                .collectList();
+    }
+
+    public Mono<DeveloperDetailDto> getDeveloperDetail(String memberId) {
+        return reactiveDeveloperRepository.findDetailByMemberId(memberId)
+                .switchIfEmpty(Mono.error(() -> new DMakerException(DMakerErrorCode.NO_DEVELOPER)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.dto.KeysetCursor;
+import com.fastcampus.programming.dmaker.dto.RetiredDeveloperDto;
+import com.fastcampus.programming.dmaker.dto.RetiredDeveloperPage;
+import com.fastcampus.programming.dmaker.dto.RetirementCursor;
+import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEFAULT_PAGE_SIZE;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+// 퇴직 이력 조회와 아카이브.
+// 이력은 퇴직 월(retiredMonth) 버킷으로 나누고, 보관 기간이 지난 버킷은 아카이브 테이블로 옮겨서
+// 조회 테이블의 크기를 일정하게 유지한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetiredDeveloperService {
+    private final RetiredDeveloperRepository retiredDeveloperRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${dmaker.retired.archive-after-months}")
+    private int archiveAfterMonths;
+
+    // [from, to) 기간에 퇴직한 개발자를 퇴직 시각 순으로 읽는다.
+    @Transactional(readOnly = true)
+    public RetiredDeveloperPage getRetiredDevelopers(
+            LocalDate from, LocalDate to, String cursor, Integer size
+    ) {
+        if (from == null || to == null || !from.isBefore(to))
+            throw new DMakerException(DMakerErrorCode.INVALID_REQUEST, "from 은 to 보다 앞이어야 합니다.");
+
+        RetirementCursor position = cursor == null || cursor.isBlank()
+                ? RetirementCursor.first(from.atStartOfDay())
+                : RetirementCursor.decode(cursor);
+        int pageSize = getPageSize(size);
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽는다.
+        List<RetiredDeveloperDto> developers = retiredDeveloperRepository.findDtosByCreatedAtRange(
+                position.getCreatedAt(), position.getId(), to.atStartOfDay(), PageRequest.of(0, pageSize + 1));
+
+        String next = null;
+        if (developers.size() > pageSize) {
+            developers = developers.subList(0, pageSize);
+            RetiredDeveloperDto last = developers.get(pageSize - 1);
+            next = new RetirementCursor(last.getRetiredAt(), last.getId()).encode();
+        }
+
+        return RetiredDeveloperPage.builder()
+                .developers(developers)
+                .next(next)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public RetiredDeveloperPage getRetirementsByMemberId(
+            String memberId, String cursor, Integer size
+    ) {
+        int pageSize = getPageSize(size);
+
+        List<RetiredDeveloperDto> developers = retiredDeveloperRepository.findDtosByMemberId(
+                memberId, KeysetCursor.decode(cursor), PageRequest.of(0, pageSize + 1));
+
+        String next = null;
+        if (developers.size() > pageSize) {
+            developers = developers.subList(0, pageSize);
+            next = KeysetCursor.encode(developers.get(pageSize - 1).getId());
+        }
+
+        return RetiredDeveloperPage.builder()
+                .developers(developers)
+                .next(next)
+                .build();
+    }
+
+    private static int getPageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // 보관 기간이 지난 월 버킷을 하나씩 옮긴다.
+    // 버킷마다 트랜잭션을 나눠서 한 번에 잡는 락과 undo 크기를 버킷 크기로 제한한다.
+    @Scheduled(cron = "${dmaker.retired.archive-cron}")
+    public void archive() {
+        int before = RetiredDeveloper.toRetiredMonth(LocalDateTime.now().minusMonths(archiveAfterMonths));
+
+        for (Integer retiredMonth : retiredDeveloperRepository.findRetiredMonthsBefore(before)) {
+            Integer archived = transactionTemplate.execute(status -> {
+                int copied = retiredDeveloperRepository.copyToArchiveByRetiredMonth(retiredMonth);
+                retiredDeveloperRepository.deleteByRetiredMonth(retiredMonth);
+                return copied;
+            });
+            log.info("retired developers archived {} {}", kv("retiredMonth", retiredMonth), kv("archived", archived));
+        }
+    }
+}
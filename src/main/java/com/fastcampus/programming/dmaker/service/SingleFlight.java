@@ -0,0 +1,65 @@
+package com.fastcampus.programming.dmaker.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 호출은 먼저 온 호출(leader)의 결과를 함께 받는다.
+// 진행 중인 호출만 맵에 두고 끝나면 바로 지우므로 결과를 캐싱하지는 않는다.
+// ConcurrentHashMap 은 키가 다르면 서로 잠그지 않고, 기다리는 쪽도 future 만 기다린다.
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            shared.increment();
+            return await(inFlight);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 기다리던 호출도 같은 예외를 받는다. (NO_DEVELOPER 등)
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (e.getCause() instanceof Error cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    // 직접 로딩한 호출 수
+    public long getLeaders() {
+        return leaders.sum();
+    }
+
+    // 다른 호출의 결과를 함께 받은 호출 수
+    public long getShared() {
+        return shared.sum();
+    }
+
+    public int getInFlight() {
+        return calls.size();
+    }
+}
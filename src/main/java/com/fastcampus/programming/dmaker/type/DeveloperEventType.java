@@ -0,0 +1,15 @@
+package com.fastcampus.programming.dmaker.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum DeveloperEventType {
+    CREATED("개발자 생성"),
+    EDITED("개발자 정보 수정"),
+    RETIRED("개발자 퇴직")
+    ;
+
+    private final String description;
+}
@@ -5,26 +5,32 @@ import com.fastcampus.programming.dmaker.exception.DMakerException;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.function.Function;
-
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_EXPERIENCE_YEARS;
 import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_JUNIOR_EXPERIENCE_YEARS;
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MIN_EXPERIENCE_YEARS;
 import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MIN_SENIOR_EXPERIENCE_YEARS;
 
+// 레벨별 연차 범위(양 끝 포함)를 int 로 들고 있어서 검증할 때 박싱이 없다.
 @AllArgsConstructor
 @Getter
 public enum DeveloperLevel {
-    NEW("신입 개발자", years -> years == 0),
-    JUNIOR("주니어 개발자", years -> years <= MAX_JUNIOR_EXPERIENCE_YEARS),
-    JUNGNIOR("중니어 개발자", years -> years > MAX_JUNIOR_EXPERIENCE_YEARS
-            && years < MIN_SENIOR_EXPERIENCE_YEARS),
-    SENIOR("시니어 개발자", years -> years >= MIN_SENIOR_EXPERIENCE_YEARS)
+    NEW("신입 개발자", MIN_EXPERIENCE_YEARS, MIN_EXPERIENCE_YEARS),
+    JUNIOR("주니어 개발자", MIN_EXPERIENCE_YEARS, MAX_JUNIOR_EXPERIENCE_YEARS),
+    JUNGNIOR("중니어 개발자", MAX_JUNIOR_EXPERIENCE_YEARS + 1, MIN_SENIOR_EXPERIENCE_YEARS - 1),
+    SENIOR("시니어 개발자", MIN_SENIOR_EXPERIENCE_YEARS, MAX_EXPERIENCE_YEARS)
     ;
 
     private final String description;
-    private final Function<Integer, Boolean> validateFunction;
+    private final int minExperienceYears;
+    private final int maxExperienceYears;
+
+    // 예외를 던지지 않는 검증. 여러 건을 검증할 때 사용한다.
+    public boolean isValidExperienceYears(int years) {
+        return years >= minExperienceYears && years <= maxExperienceYears;
+    }
 
-    public void validateExperienceYears(Integer years) {
-        if(!validateFunction.apply(years))
+    public void validateExperienceYears(int years) {
+        if (!isValidExperienceYears(years))
             throw new DMakerException(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED);
     }
 }
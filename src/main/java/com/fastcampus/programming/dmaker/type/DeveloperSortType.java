@@ -0,0 +1,15 @@
+package com.fastcampus.programming.dmaker.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public enum DeveloperSortType {
+    ID("id"),
+    MEMBER_ID("memberId"),
+    DEVELOPER_LEVEL("developerLevel"),
+    EXPERIENCE_YEARS("experienceYears");
+
+    private final String property; // Developer 엔티티의 필드명
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_DETAIL_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+
+// CacheConfig 가 만드는 그대로(커밋 이후 put + version 비교) 순서가 엇갈린 put 을 재현한다.
+class DeveloperDetailCacheTest {
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheConfig()
+                .cacheManager(true, "maximumSize=100", Duration.ofSeconds(60), Duration.ofMinutes(3))
+                .getCache(DEVELOPER_DETAIL_CACHE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static DeveloperDetailDto developer(StatusCode statusCode, Long version) {
+        return DeveloperDetailDto.builder()
+                .memberId("memberId")
+                .statusCode(statusCode)
+                .version(version)
+                .build();
+    }
+
+    @Test
+    void put_from_read_committed_after_edit_is_ignored() {
+        // 조회 트랜잭션: 수정 전 값(version 1)을 읽었고, put 은 커밋 이후로 미뤄진다.
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put("memberId", developer(StatusCode.EMPLOYED, 1L));
+        assertNull(cache.get("memberId"));
+
+        // 수정 트랜잭션이 먼저 커밋하고 새 값(version 2)을 넣는다.
+        CompletableFuture.runAsync(() -> cache.put("memberId", developer(StatusCode.RETIRED, 2L))).join();
+
+        // 조회 트랜잭션이 늦게 커밋해도 이전 값으로 덮어쓰지 않는다.
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        DeveloperDetailDto cached = (DeveloperDetailDto) cache.get("memberId").get();
+        assertEquals(2L, cached.getVersion());
+        assertEquals(StatusCode.RETIRED, cached.getStatusCode());
+    }
+
+    @Test
+    void put_replaces_older_version() {
+        cache.put("memberId", developer(StatusCode.EMPLOYED, 1L));
+        cache.put("memberId", developer(StatusCode.RETIRED, 2L));
+
+        assertEquals(2L, ((DeveloperDetailDto) cache.get("memberId").get()).getVersion());
+    }
+
+    @Test
+    void put_without_version_replaces() {
+        cache.put("memberId", developer(StatusCode.EMPLOYED, 2L));
+        cache.put("memberId", developer(StatusCode.RETIRED, null));
+
+        assertEquals(StatusCode.RETIRED,
+                ((DeveloperDetailDto) cache.get("memberId").get()).getStatusCode());
+    }
+
+    @Test
+    void putWarm_keeps_longer_and_does_not_overwrite() {
+        DeveloperDetailCache detailCache =
+                (DeveloperDetailCache) ((TransactionAwareCacheDecorator) cache).getTargetCache();
+        cache.put("edited", developer(StatusCode.RETIRED, 2L));
+
+        detailCache.putWarm("warmed", developer(StatusCode.EMPLOYED, 1L));
+        detailCache.putWarm("edited", developer(StatusCode.EMPLOYED, 1L));
+
+        // 일반 값은 ttl(60s) 로, 스냅샷 값은 ttl ~ warm-ttl(3m) 사이로 들어간다.
+        assertTrue(expiresAfter(detailCache, "edited").compareTo(Duration.ofSeconds(60)) <= 0);
+        assertTrue(expiresAfter(detailCache, "warmed").compareTo(Duration.ofSeconds(59)) >= 0);
+        assertTrue(expiresAfter(detailCache, "warmed").compareTo(Duration.ofMinutes(3)) <= 0);
+        assertEquals(StatusCode.RETIRED,
+                ((DeveloperDetailDto) cache.get("edited").get()).getStatusCode());
+    }
+
+    @Test
+    void warm_ttl_is_capped() {
+        // 다른 인스턴스의 변경을 늦게 보는 시간이 ttl 과 크게 차이 나지 않게 막는다.
+        assertThrows(IllegalArgumentException.class, () -> new CacheConfig()
+                .cacheManager(true, "maximumSize=100", Duration.ofSeconds(60), Duration.ofMinutes(30))
+                .getCache(DEVELOPER_DETAIL_CACHE));
+    }
+
+    private static Duration expiresAfter(DeveloperDetailCache cache, String key) {
+        return cache.getNativeCache().policy().expireVariably().orElseThrow()
+                .getExpiresAfter(key).orElseThrow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// primary 와 레플리카 두 개를 각각 다른 H2 메모리 DB 로 띄워서 어디로 가는지 확인한다.
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    private static HikariDataSource h2(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists database_name (name varchar(20))");
+        jdbcTemplate.execute("create table if not exists replica_lag (seconds bigint)");
+        jdbcTemplate.update("delete from database_name");
+        jdbcTemplate.update("delete from replica_lag");
+        jdbcTemplate.update("insert into database_name values (?)", name);
+        jdbcTemplate.update("insert into replica_lag values (0)");
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(
+                h2(ReplicaRoutingDataSource.PRIMARY),
+                Arrays.asList(h2("replica-0"), h2("replica-1")),
+                "select seconds from replica_lag",
+                Duration.ofSeconds(5));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.destroy();
+    }
+
+    private String databaseName(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("select name from database_name", String.class));
+    }
+
+    @Test
+    void write_goes_to_primary() {
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, databaseName(writeTransaction));
+        assertEquals(ReplicaRoutingDataSource.PRIMARY,
+                jdbcTemplate.queryForObject("select name from database_name", String.class));
+    }
+
+    @Test
+    void read_only_goes_to_replicas_in_turn() {
+        String first = databaseName(readOnlyTransaction);
+        String second = databaseName(readOnlyTransaction);
+
+        assertTrue(first.startsWith("replica-"));
+        assertTrue(second.startsWith("replica-"));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void lagging_replica_is_skipped() {
+        new JdbcTemplate(routingDataSource.getResolvedDataSources().get("replica-0"))
+                .update("update replica_lag set seconds = 60");
+        routingDataSource.checkReplicaLag();
+
+        assertFalse(routingDataSource.isHealthy(0));
+        assertEquals("replica-1", databaseName(readOnlyTransaction));
+        assertEquals("replica-1", databaseName(readOnlyTransaction));
+    }
+
+    @Test
+    void all_replicas_lagging_falls_back_to_primary() {
+        for (String replica : Arrays.asList("replica-0", "replica-1")) {
+            new JdbcTemplate(routingDataSource.getResolvedDataSources().get(replica))
+                    .update("update replica_lag set seconds = 60");
+        }
+        routingDataSource.checkReplicaLag();
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, databaseName(readOnlyTransaction));
+    }
+}
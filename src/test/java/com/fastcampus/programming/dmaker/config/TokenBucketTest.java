@@ -0,0 +1,40 @@
+package com.fastcampus.programming.dmaker.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_allows_burst_up_to_capacity() {
+        long now = 1_000L * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 1.0, now);
+
+        assertEquals(0L, bucket.tryAcquire(now));
+        assertEquals(0L, bucket.tryAcquire(now));
+        assertEquals(0L, bucket.tryAcquire(now));
+        // 네 번째는 토큰 하나가 다시 찰 때까지(1초) 기다려야 한다.
+        assertEquals(SECOND, bucket.tryAcquire(now));
+        assertFalse(bucket.isFull(now));
+    }
+
+    @Test
+    void tryAcquire_refills_over_time() {
+        long now = 1_000L * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 2.0, now);
+        bucket.tryAcquire(now);
+        bucket.tryAcquire(now);
+        assertTrue(bucket.tryAcquire(now) > 0);
+
+        // 초당 2개씩 차므로 0.5초 뒤에 하나를 더 쓸 수 있다.
+        assertEquals(0L, bucket.tryAcquire(now + SECOND / 2));
+        assertTrue(bucket.tryAcquire(now + SECOND / 2) > 0);
+
+        // 1.5초 뒤면 다시 가득 찬다.
+        assertTrue(bucket.isFull(now + SECOND * 3 / 2));
+    }
+}
@@ -0,0 +1,82 @@
+package com.fastcampus.programming.dmaker.config;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAdmissionInterceptorTest {
+    private static final String PROXY = "10.0.0.1";
+
+    private WriteAdmissionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionControlProperties properties = new AdmissionControlProperties();
+        properties.setTrustedProxies(Set.of(PROXY));
+        properties.getDefaultLimit().setCapacity(1);
+        properties.getDefaultLimit().setRefillPerSecond(0.001);
+        interceptor = new WriteAdmissionInterceptor(properties, new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest write(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/create-developer");
+        request.setRemoteAddr(remoteAddr);
+        if (clientId != null)
+            request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+
+    private void admit(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private DMakerErrorCode reject(MockHttpServletRequest request) {
+        return assertThrows(DMakerException.class,
+                () -> interceptor.preHandle(request, new MockHttpServletResponse(), null))
+                .getDMakerErrorCode();
+    }
+
+    @Test
+    void preHandle_ignores_client_id_from_untrusted_address() {
+        admit(write("192.168.0.10", "a"));
+
+        // 헤더를 바꿔도 같은 주소면 같은 버킷이다.
+        assertEquals(DMakerErrorCode.TOO_MANY_REQUESTS, reject(write("192.168.0.10", "b")));
+    }
+
+    @Test
+    void preHandle_uses_client_id_from_trusted_proxy() {
+        admit(write(PROXY, "a"));
+        admit(write(PROXY, "b"));
+
+        assertEquals(DMakerErrorCode.TOO_MANY_REQUESTS, reject(write(PROXY, "a")));
+        // 헤더가 없으면 프록시 주소로 묶인다.
+        admit(write(PROXY, null));
+        assertEquals(DMakerErrorCode.TOO_MANY_REQUESTS, reject(write(PROXY, null)));
+    }
+
+    @Test
+    void preHandle_uses_principal_before_address() {
+        MockHttpServletRequest first = write("192.168.0.10", null);
+        first.setUserPrincipal(() -> "alice");
+        admit(first);
+
+        MockHttpServletRequest other = write("192.168.0.10", null);
+        other.setUserPrincipal(() -> "bob");
+        admit(other);
+
+        MockHttpServletRequest again = write("192.168.0.11", null);
+        again.setUserPrincipal(() -> "alice");
+        assertEquals(DMakerErrorCode.TOO_MANY_REQUESTS, reject(again));
+    }
+}
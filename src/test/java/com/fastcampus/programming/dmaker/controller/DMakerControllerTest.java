@@ -1,29 +1,53 @@
 package com.fastcampus.programming.dmaker.controller;
 
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
 import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
 import com.fastcampus.programming.dmaker.service.DMakerService;
+import com.fastcampus.programming.dmaker.service.DeveloperDetailLoader;
+import com.fastcampus.programming.dmaker.service.DeveloperEventService;
+import com.fastcampus.programming.dmaker.service.DeveloperEventStream;
+import com.fastcampus.programming.dmaker.service.DeveloperListView;
+import com.fastcampus.programming.dmaker.service.DeveloperStatisticsService;
+import com.fastcampus.programming.dmaker.service.RetiredDeveloperService;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(DMakerController.class) // 해당 컨트롤러만 빈에 올려준다.
+@Import(SimpleMeterRegistry.class) // DMakerExceptionHandler 의 에러 카운터용
 class DMakerControllerTest {
 
     @Autowired
@@ -32,6 +56,24 @@ class DMakerControllerTest {
     @MockBean
     private DMakerService dMakerService; // DMakerController는 DMakerService를 의존하고 있다.
 
+    @MockBean
+    private DeveloperStatisticsService developerStatisticsService;
+
+    @MockBean
+    private DeveloperEventService developerEventService;
+
+    @MockBean
+    private DeveloperEventStream developerEventStream;
+
+    @MockBean
+    private RetiredDeveloperService retiredDeveloperService;
+
+    @MockBean
+    private DeveloperListView developerListView;
+
+    @MockBean
+    private DeveloperDetailLoader developerDetailLoader;
+
     protected MediaType contentType =
             new MediaType(MediaType.APPLICATION_JSON.getType(),
                     MediaType.APPLICATION_JSON.getSubtype(),
@@ -49,8 +91,11 @@ class DMakerControllerTest {
                 .developerLevel(DeveloperLevel.SENIOR)
                 .memberId("memberId2").build();
 
-        given(dMakerService.getAllEmployedDevelopers())
-                .willReturn(Arrays.asList(juniorDeveloperDto, seniorDeveloperDto));
+        given(dMakerService.getEmployedDevelopers(null, null))
+                .willReturn(DeveloperPage.builder()
+                        .developers(Arrays.asList(juniorDeveloperDto, seniorDeveloperDto))
+                        .next("bmV4dA")
+                        .build());
 
         mockMvc.perform(get("/developers").contentType(contentType))
                 .andExpect(status().isOk())
@@ -67,6 +112,186 @@ class DMakerControllerTest {
                 ).andExpect(
                         jsonPath("$.[1].developerLevel",
                                 CoreMatchers.is(DeveloperLevel.SENIOR.name()))
+                ).andExpect(
+                        header().string("X-Next-Cursor", "bmV4dA")
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    void getDeveloperDetail_not_modified() throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willReturn(DeveloperDetailDto.builder()
+                        .memberId("memberId")
+                        .version(3L)
+                        .build());
+
+        mockMvc.perform(get("/developer/memberId")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    // 에러 코드별 응답 상태. 바꾸면 클라이언트의 재시도/캐싱 동작이 달라진다.
+    @ParameterizedTest
+    @CsvSource({
+            "NO_DEVELOPER, 404",
+            "DUPLICATED_MEMBER_ID, 409",
+            "LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, 400",
+            "VERSION_NOT_MATCHED, 412",
+            "EVENT_CURSOR_EXPIRED, 410",
+            "INTERNAL_SERVER_ERROR, 500",
+            "INVALID_REQUEST, 400",
+            "METHOD_NOT_ALLOWED, 405",
+            "NOT_ACCEPTABLE, 406",
+            "TOO_MANY_REQUESTS, 429",
+            "SERVICE_OVERLOADED, 503",
+            "REQUEST_TIMEOUT, 503",
+    })
+    void errorCode_status(DMakerErrorCode errorCode, int status) throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willThrow(new DMakerException(errorCode));
+
+        mockMvc.perform(get("/developer/memberId"))
+                .andExpect(status().is(status))
+                .andExpect(jsonPath("$.errorCode", CoreMatchers.is(errorCode.name())));
+    }
+
+    @Test
+    void errorCode_not_found_is_cacheable() throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willThrow(new DMakerException(DMakerErrorCode.NO_DEVELOPER));
+
+        mockMvc.perform(get("/developer/memberId"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5"))
+                .andExpect(header().doesNotExist(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void errorCode_overload_retry_after() throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willThrow(new DMakerException(DMakerErrorCode.TOO_MANY_REQUESTS, Duration.ofMillis(1500)))
+                .willThrow(new DMakerException(DMakerErrorCode.SERVICE_OVERLOADED));
+
+        // 버킷이 알려준 대기 시간을 초 단위로 올림한다.
+        mockMvc.perform(get("/developer/memberId"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        mockMvc.perform(get("/developer/memberId"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void errorCode_unexpected_exception() throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willThrow(new IllegalStateException("boom"));
+
+        mockMvc.perform(get("/developer/memberId"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.errorCode",
+                        CoreMatchers.is(DMakerErrorCode.INTERNAL_SERVER_ERROR.name())));
+    }
+
+    @Test
+    void errorCode_bad_parameter() throws Exception {
+        mockMvc.perform(get("/retired-developers")
+                        .param("from", "not-a-date")
+                        .param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode",
+                        CoreMatchers.is(DMakerErrorCode.INVALID_REQUEST.name())));
+    }
+
+    @Test
+    void errorCode_method_not_allowed() throws Exception {
+        mockMvc.perform(post("/developers/search"))
+                .andExpect(status().isMethodNotAllowed())
+                .andExpect(header().string(HttpHeaders.ALLOW, CoreMatchers.containsString("GET")))
+                .andExpect(jsonPath("$.errorCode",
+                        CoreMatchers.is(DMakerErrorCode.METHOD_NOT_ALLOWED.name())));
+    }
+
+    @Test
+    void errorCode_not_acceptable() throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willReturn(DeveloperDetailDto.builder().memberId("memberId").build());
+
+        // JSON 으로만 응답할 수 있으므로 본문 없이 406 만 내려준다.
+        mockMvc.perform(get("/developer/memberId")
+                        .accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void errorCode_async_request_timeout() throws Exception {
+        given(developerDetailLoader.load("memberId"))
+                .willThrow(new AsyncRequestTimeoutException());
+
+        mockMvc.perform(get("/developer/memberId"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.errorCode",
+                        CoreMatchers.is(DMakerErrorCode.REQUEST_TIMEOUT.name())));
+    }
+
+    @Test
+    void searchDevelopers_page_too_deep() throws Exception {
+        // page * size 가 int 를 넘는 요청은 서비스까지 가지 않고 400 으로 끝난다.
+        mockMvc.perform(get("/developers/search")
+                        .param("page", "3000000")
+                        .param("size", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode",
+                        CoreMatchers.is(DMakerErrorCode.INVALID_REQUEST.name())));
+
+        verify(dMakerService, never()).searchDevelopers(any());
+    }
+
+    @Test
+    void getAllEmployedDevelopers_encoding() throws Exception {
+        byte[] json = "[]".getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = {31, -117, 8, 0};
+        given(developerListView.get())
+                .willReturn(new DeveloperListView.Encoded(json, gzip, "\"hash\"", "\"hash-gzip\""));
+
+        mockMvc.perform(get("/developers/all"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"hash\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(json));
+
+        mockMvc.perform(get("/developers/all")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"hash-gzip\""))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(gzip));
+
+        // q=0 은 gzip 을 받지 않는다는 뜻이다.
+        for (String refused : new String[]{"gzip;q=0", "gzip; q=0.0, deflate", "*;q=0", "gzip;q=0, *"}) {
+            mockMvc.perform(get("/developers/all")
+                            .header(HttpHeaders.ACCEPT_ENCODING, refused))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(content().bytes(json));
+        }
+
+        for (String accepted : new String[]{"GZIP;q=0.5", "deflate, *;q=0.1", "identity;q=0, gzip;q=1"}) {
+            mockMvc.perform(get("/developers/all")
+                            .header(HttpHeaders.ACCEPT_ENCODING, accepted))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(content().bytes(gzip));
+        }
+
+        mockMvc.perform(get("/developers/all")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"hash\""))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,101 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperSearch;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fastcampus.programming.dmaker.type.DeveloperSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest // JPA 관련 빈만 올리고 인메모리 H2 를 사용한다.
+class DeveloperRepositoryTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Developer developer(
+            String memberId,
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType,
+            Integer experienceYears,
+            StatusCode statusCode
+    ) {
+        return Developer.builder()
+                .developerLevel(developerLevel)
+                .developerSkillType(developerSkillType)
+                .experienceYears(experienceYears)
+                .memberId(memberId)
+                .name("name")
+                .age(32)
+                .statusCode(statusCode)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        developerRepository.saveAll(Arrays.asList(
+                developer("seniorBack", DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END, 12, StatusCode.EMPLOYED),
+                developer("seniorFront", DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 15, StatusCode.EMPLOYED),
+                developer("juniorBack", DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, 2, StatusCode.EMPLOYED),
+                developer("retiredBack", DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END, 11, StatusCode.RETIRED)
+        ));
+    }
+
+    @Test
+    void searchTest_filter_and_sort() {
+        //when
+        List<DeveloperDto> developers = developerRepository.search(
+                DeveloperSearch.Request.builder()
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .minExperienceYears(1)
+                        .sort(DeveloperSortType.EXPERIENCE_YEARS)
+                        .direction(Sort.Direction.DESC)
+                        .build(),
+                0, 10);
+
+        //then
+        assertEquals(Arrays.asList("seniorBack", "juniorBack"),
+                developers.stream().map(DeveloperDto::getMemberId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void searchTest_uses_composite_index() {
+        assertPlanUsesIndex("ix_developer_status_level_skill_years",
+                "SELECT id FROM developer WHERE status_code = 'EMPLOYED' " +
+                        "AND developer_level = 'SENIOR' AND developer_skill_type = 'BACK_END' " +
+                        "AND experience_years >= 10");
+        assertPlanUsesIndex("ix_developer_status_skill_years",
+                "SELECT id FROM developer WHERE status_code = 'EMPLOYED' " +
+                        "AND developer_skill_type = 'FRONT_END' " +
+                        "AND experience_years BETWEEN 5 AND 15");
+        assertPlanUsesIndex("ix_developer_status_years",
+                "SELECT id FROM developer WHERE status_code = 'EMPLOYED' " +
+                        "AND experience_years >= 10");
+    }
+
+    // H2 의 EXPLAIN 결과에는 사용한 인덱스 이름이 /* PUBLIC.IX_... */ 형태로 들어있다.
+    private void assertPlanUsesIndex(String indexName, String sql) {
+        String plan = String.valueOf(testEntityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN " + sql)
+                .getSingleResult());
+
+        assertTrue(plan.toLowerCase().contains(indexName), plan);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fastcampus.programming.dmaker.repository;
+
+import com.fastcampus.programming.dmaker.dto.RetiredDeveloperDto;
+import com.fastcampus.programming.dmaker.entity.RetiredDeveloper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest // JPA 관련 빈만 올리고 인메모리 H2 를 사용한다.
+class RetiredDeveloperRepositoryTest {
+
+    @Autowired
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private RetiredDeveloper retiredDeveloper(String memberId, LocalDateTime createdAt) {
+        return RetiredDeveloper.builder()
+                .memberId(memberId)
+                .name("name")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        retiredDeveloperRepository.saveAll(Arrays.asList(
+                retiredDeveloper("january", LocalDateTime.of(2023, 1, 15, 9, 0)),
+                retiredDeveloper("february1", LocalDateTime.of(2023, 2, 1, 9, 0)),
+                retiredDeveloper("february2", LocalDateTime.of(2023, 2, 1, 9, 0)),
+                retiredDeveloper("february3", LocalDateTime.of(2023, 2, 20, 9, 0)),
+                retiredDeveloper("march", LocalDateTime.of(2023, 3, 2, 9, 0))
+        ));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void findDtosByCreatedAtRange_keyset() {
+        LocalDateTime from = LocalDateTime.of(2023, 2, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2023, 3, 1, 0, 0);
+
+        List<RetiredDeveloperDto> first = retiredDeveloperRepository.findDtosByCreatedAtRange(
+                from, 0L, to, PageRequest.of(0, 2));
+        RetiredDeveloperDto last = first.get(first.size() - 1);
+        // 같은 시각에 퇴직한 이력도 id 로 이어서 읽는다.
+        List<RetiredDeveloperDto> second = retiredDeveloperRepository.findDtosByCreatedAtRange(
+                last.getRetiredAt(), last.getId(), to, PageRequest.of(0, 2));
+
+        assertEquals(Arrays.asList("february1", "february2"),
+                first.stream().map(RetiredDeveloperDto::getMemberId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("february3"),
+                second.stream().map(RetiredDeveloperDto::getMemberId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void archiveByRetiredMonth() {
+        assertEquals(Arrays.asList(202301, 202302), retiredDeveloperRepository.findRetiredMonthsBefore(202303));
+
+        assertEquals(3, retiredDeveloperRepository.copyToArchiveByRetiredMonth(202302));
+        assertEquals(3, retiredDeveloperRepository.deleteByRetiredMonth(202302));
+
+        assertEquals(2, retiredDeveloperRepository.count());
+        assertEquals(3L, testEntityManager.getEntityManager()
+                .createQuery("select count(a) from RetiredDeveloperArchive a " +
+                        "where a.retiredMonth = 202302", Long.class)
+                .getSingleResult());
+    }
+}
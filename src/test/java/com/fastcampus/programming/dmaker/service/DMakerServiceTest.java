@@ -1,14 +1,24 @@
 package com.fastcampus.programming.dmaker.service;
 
 import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.BulkCreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.BulkRetireDeveloper;
 import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
 import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.dto.EditDeveloper;
+import com.fastcampus.programming.dmaker.dto.KeysetCursor;
+import com.fastcampus.programming.dmaker.dto.ValidateDevelopers;
 import com.fastcampus.programming.dmaker.entity.Developer;
 import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
 import com.fastcampus.programming.dmaker.exception.DMakerException;
 import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.repository.RetiredDeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
 import com.fastcampus.programming.dmaker.type.DeveloperLevel;
 import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -16,13 +26,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.DEVELOPER_DETAIL_CACHE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -32,6 +54,24 @@ class DMakerServiceTest {
     @Mock // 테스트하려는 클래스(여기서 DMakerService)의 디펜던시를 Mock으로 만든다.
     private DeveloperRepository developerRepository;
 
+    @Mock
+    private RetiredDeveloperRepository retiredDeveloperRepository;
+
+    @Mock
+    private DeveloperStatisticsService developerStatisticsService;
+
+    @Mock
+    private DeveloperEventService developerEventService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache detailCache;
+
 //    @Autowired
     @InjectMocks // 목업 데이터를 더해준다.
     private DMakerService dMakerService;
@@ -81,8 +121,8 @@ class DMakerServiceTest {
         // Mock 의 동작을 정의해야 한다.
         // anyString으로 memberId에 아무 문자열을 넣어주면 아래와 같은 데이터를 넣도록 정의한다.
         // given
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
+        given(developerRepository.findDetailByMemberId(anyString()))
+                .willReturn(Optional.of(DeveloperDetailDto.fromEntity(defaultDeveloper)));
 
         // when
         DeveloperDetailDto developerDetail = dMakerService.getDeveloperDetail("memberId");
@@ -115,10 +155,8 @@ class DMakerServiceTest {
 //                .age(32)
 //                .build();
 
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.empty());
-        given(developerRepository.save(any()))
-                .willReturn(getCeateRequest(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12));
+        given(developerRepository.saveAndFlush(any()))
+                .willReturn(defaultDeveloper);
         ArgumentCaptor<Developer> captor =
                 ArgumentCaptor.forClass(Developer.class); // DB에 호출되는 데이터가 뭔지 확인하고 싶을 때 등
 
@@ -127,7 +165,10 @@ class DMakerServiceTest {
 
         //then
         verify(developerRepository, times(1))
-                .save(captor.capture());
+                .saveAndFlush(captor.capture());
+        verify(developerRepository, never()).findByNaturalId(anyString());
+        verify(developerEventService, times(1))
+                .publish(eq(DeveloperEventType.CREATED), any(DeveloperDetailDto.class));
 
         Developer savedDeveloper = captor.getValue();
         assertEquals(DeveloperLevel.SENIOR, savedDeveloper.getDeveloperLevel());
@@ -147,8 +188,10 @@ class DMakerServiceTest {
 //                .age(32)
 //                .build();
 
-        given(developerRepository.findByMemberId(anyString()))
-                .willReturn(Optional.of(defaultDeveloper));
+        // memberId 유니크 인덱스 위반
+        given(developerRepository.saveAndFlush(any()))
+                .willThrow(new DataIntegrityViolationException("duplicated",
+                        new SQLException("Unique index or primary key violation", "23505")));
 
 //        ArgumentCaptor<Developer> captor =
 //                ArgumentCaptor.forClass(Developer.class);
@@ -193,4 +236,162 @@ class DMakerServiceTest {
 
         assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, dMakerException.getDMakerErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getEmployedDevelopersTest_next_cursor() {
+        //given
+        given(developerRepository.findDeveloperDtosByStatusCode(
+                eq(StatusCode.EMPLOYED), anyLong(), any()))
+                .willReturn(Arrays.asList(
+                        DeveloperDto.builder().id(1L).memberId("memberId1").build(),
+                        DeveloperDto.builder().id(2L).memberId("memberId2").build(),
+                        DeveloperDto.builder().id(3L).memberId("memberId3").build()
+                ));
+
+        //when
+        DeveloperPage page = dMakerService.getEmployedDevelopers(null, 2);
+
+        //then
+        assertEquals(2, page.getDevelopers().size());
+        assertEquals("memberId2", page.getDevelopers().get(1).getMemberId());
+        assertEquals(2L, KeysetCursor.decode(page.getNext()));
+    }
+
+    @Test
+    void createDevelopersTest_result_per_item() {
+        //given
+        CreateDeveloper.Request created = getCeateRequest(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+        created.setMemberId("created");
+        CreateDeveloper.Request unmatchedLevel = getCeateRequest(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 8);
+        unmatchedLevel.setMemberId("unmatched");
+        CreateDeveloper.Request existing = getCeateRequest(DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, 2);
+        existing.setMemberId("existing");
+        CreateDeveloper.Request duplicatedInRequest = getCeateRequest(DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, 2);
+        duplicatedInRequest.setMemberId("created");
+
+        given(developerRepository.findMemberIdsByMemberIdIn(any()))
+                .willReturn(Collections.singletonList("existing"));
+        ArgumentCaptor<List<Developer>> captor = ArgumentCaptor.forClass(List.class);
+
+        //when
+        BulkCreateDeveloper.Response response = dMakerService.createDevelopers(
+                Arrays.asList(created, unmatchedLevel, existing, duplicatedInRequest));
+
+        //then
+        verify(developerRepository, times(1))
+                .findMemberIdsByMemberIdIn(any());
+        verify(developerRepository, times(1))
+                .saveAllAndFlush(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("created", captor.getValue().get(0).getMemberId());
+
+        assertEquals(1, response.getCreatedCount());
+        assertNull(response.getResults().get(0).getErrorCode());
+        assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, response.getResults().get(1).getErrorCode());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(2).getErrorCode());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getResults().get(3).getErrorCode());
+    }
+
+    @Test
+    void retireDevelopersTest_not_found() {
+        //given
+        defaultDeveloper.setMemberId("retired");
+        defaultDeveloper.setVersion(3L);
+        given(developerRepository.findForUpdateByStatusCodeAndMemberIdIn(eq(StatusCode.EMPLOYED), any()))
+                .willReturn(Collections.singletonList(defaultDeveloper));
+        given(developerRepository.updateStatusCodeByMemberIdIn(
+                eq(StatusCode.EMPLOYED), eq(StatusCode.RETIRED), any(), any()))
+                .willReturn(1);
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE)).willReturn(detailCache);
+
+        //when
+        BulkRetireDeveloper.Response response = dMakerService.retireDevelopers(
+                Arrays.asList("retired", "unknown", "retired"));
+
+        //then
+        verify(retiredDeveloperRepository, times(1)).saveAll(any());
+        verify(developerEventService, times(1))
+                .publish(eq(DeveloperEventType.RETIRED), anyCollection());
+        assertEquals(1, response.getRetiredCount());
+        assertEquals(Collections.singletonList("unknown"), response.getNotFoundMemberIds());
+
+        // 상세 캐시는 벌크 update 가 올린 version 의 퇴직 상태로 바뀐다.
+        ArgumentCaptor<DeveloperDetailDto> cached = ArgumentCaptor.forClass(DeveloperDetailDto.class);
+        verify(detailCache).put(eq("retired"), cached.capture());
+        assertEquals(StatusCode.RETIRED, cached.getValue().getStatusCode());
+        assertEquals(4L, cached.getValue().getVersion());
+    }
+
+    @Test
+    void retireDevelopersTest_already_retired_concurrently() {
+        //given
+        // 잠그는 동안 다른 트랜잭션이 먼저 퇴직시킨 개발자는 EMPLOYED 로 읽히지 않는다.
+        given(developerRepository.findForUpdateByStatusCodeAndMemberIdIn(eq(StatusCode.EMPLOYED), any()))
+                .willReturn(Collections.emptyList());
+        given(cacheManager.getCache(DEVELOPER_DETAIL_CACHE)).willReturn(detailCache);
+
+        //when
+        BulkRetireDeveloper.Response response = dMakerService.retireDevelopers(
+                Collections.singletonList("retired"));
+
+        //then
+        verify(developerRepository, never()).updateStatusCodeByMemberIdIn(any(), any(), any(), any());
+        verify(developerStatisticsService, times(1)).apply(any());
+        assertEquals(0, response.getRetiredCount());
+        assertEquals(Collections.singletonList("retired"), response.getNotFoundMemberIds());
+    }
+
+    @Test
+    void validateDevelopersTest_result_per_item() {
+        //given
+        CreateDeveloper.Request valid = getCeateRequest(DeveloperLevel.SENIOR, DeveloperSkillType.FRONT_END, 12);
+        valid.setMemberId("new");
+        CreateDeveloper.Request existing = getCeateRequest(DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, 2);
+        existing.setMemberId("existing");
+        ValidateDevelopers.Edit edit = new ValidateDevelopers.Edit("existing",
+                new EditDeveloper.Request(DeveloperLevel.JUNGNIOR, DeveloperSkillType.BACK_END, 7));
+        ValidateDevelopers.Edit unknown = new ValidateDevelopers.Edit("unknown",
+                new EditDeveloper.Request(DeveloperLevel.JUNGNIOR, DeveloperSkillType.BACK_END, 7));
+        ValidateDevelopers.Edit unmatchedLevel = new ValidateDevelopers.Edit("existing",
+                new EditDeveloper.Request(DeveloperLevel.NEW, DeveloperSkillType.BACK_END, 3));
+
+        given(developerRepository.findMemberIdsByMemberIdIn(any()))
+                .willReturn(Collections.singletonList("existing"));
+
+        //when
+        ValidateDevelopers.Response response = dMakerService.validateDevelopers(
+                Arrays.asList(valid, existing),
+                Arrays.asList(edit, unknown, unmatchedLevel));
+
+        //then
+        verify(developerRepository, times(1))
+                .findMemberIdsByMemberIdIn(any());
+        verify(developerRepository, never())
+                .saveAllAndFlush(any());
+
+        assertEquals(3, response.getInvalidCount());
+        assertTrue(response.getCreates().get(0).isValid());
+        assertEquals(DMakerErrorCode.DUPLICATED_MEMBER_ID, response.getCreates().get(1).getErrorCode());
+        assertTrue(response.getEdits().get(0).isValid());
+        assertEquals(DMakerErrorCode.NO_DEVELOPER, response.getEdits().get(1).getErrorCode());
+        assertEquals(DMakerErrorCode.LEVEL_EXPERIENCE_YEARS_NOT_MATCHED, response.getEdits().get(2).getErrorCode());
+    }
+
+    @Test
+    void editDeveloperTest_version_not_matched() {
+        //given
+        defaultDeveloper.setVersion(2L);
+        given(developerRepository.findByNaturalId(anyString()))
+                .willReturn(Optional.of(defaultDeveloper));
+
+        //when
+        DMakerException dMakerException = assertThrows(DMakerException.class,
+                () -> dMakerService.editDeveloper("memberId", 1L,
+                        new EditDeveloper.Request(DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END, 13)));
+
+        //then
+        assertEquals(DMakerErrorCode.VERSION_NOT_MATCHED, dMakerException.getDMakerErrorCode());
+        assertEquals(DeveloperSkillType.FRONT_END, defaultDeveloper.getDeveloperSkillType());
+        verify(developerStatisticsService, never()).apply(any());
+    }
+}
@@ -0,0 +1,143 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventCursor;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventPage;
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "dmaker.events.commit-lag=2s")
+@Import(DeveloperEventService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션마다 실제로 커밋한다.
+class DeveloperEventServiceTest {
+
+    @Autowired
+    private DeveloperEventService developerEventService;
+
+    @Autowired
+    private DeveloperEventRepository developerEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        developerEventRepository.deleteAllInBatch();
+    }
+
+    private static DeveloperDetailDto developer(String memberId) {
+        return DeveloperDetailDto.builder()
+                .memberId(memberId)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    @Test
+    void getEvents_does_not_skip_transaction_committed_later() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch published = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 먼저 id 를 받았지만 늦게 커밋하는 트랜잭션
+            Future<?> late = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                developerEventService.publish(DeveloperEventType.CREATED, developer("late"));
+                developerEventRepository.flush();
+                published.countDown();
+                await(commit);
+            }));
+            assertTrue(published.await(5, TimeUnit.SECONDS));
+
+            // 뒤에 id 를 받았지만 먼저 커밋하는 트랜잭션
+            transactionTemplate.executeWithoutResult(status ->
+                    developerEventService.publish(DeveloperEventType.CREATED, developer("early")));
+
+            // 먼저 커밋된 이벤트도 commit-lag 가 지나기 전에는 내보내지 않는다.
+            DeveloperEventPage first = developerEventService.getEvents(null, 10);
+            assertTrue(first.getEvents().isEmpty());
+
+            commit.countDown();
+            late.get(5, TimeUnit.SECONDS);
+            Thread.sleep(2100);
+
+            DeveloperEventPage second = developerEventService.getEvents(first.getNext(), 10);
+            assertEquals(Arrays.asList("late", "early"), memberIds(second.getEvents()));
+
+            // 다 읽은 커서로는 같은 이벤트를 다시 받지 않는다.
+            assertTrue(developerEventService.getEvents(second.getNext(), 10).getEvents().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getEvents_expired_cursor() {
+        // 보관 기간(1h)보다 오래된 커서는 중간 이벤트가 compaction 으로 지워졌을 수 있다.
+        String expired = new DeveloperEventCursor(LocalDateTime.now().minusHours(2), 1L).encode();
+
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> developerEventService.getEvents(expired, 10));
+        assertEquals(DMakerErrorCode.EVENT_CURSOR_EXPIRED, exception.getDMakerErrorCode());
+
+        // 커서 없이 처음부터 읽는 것은 괜찮다.
+        assertTrue(developerEventService.getEvents(null, 10).getEvents().isEmpty());
+    }
+
+    @Test
+    void getEventsAfter_same_boundary_ends_on_same_cursor() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status ->
+                developerEventService.publish(DeveloperEventType.CREATED, developer("first")));
+        transactionTemplate.executeWithoutResult(status ->
+                developerEventService.publish(DeveloperEventType.CREATED, developer("second")));
+
+        // 한 주기에서 커서가 다른 두 구독자를 같은 경계로 읽는다. (DeveloperEventStream.poll)
+        LocalDateTime visibleBefore = LocalDateTime.now();
+        DeveloperEventPage behind = developerEventService.getEventsAfter(
+                DeveloperEventCursor.decode(null), 10, visibleBefore);
+        assertEquals(Arrays.asList("first", "second"), memberIds(behind.getEvents()));
+        DeveloperEventPage ahead = developerEventService.getEventsAfter(
+                DeveloperEventCursor.of(behind.getEvents().get(0)), 10, visibleBefore);
+        assertEquals(Arrays.asList("second"), memberIds(ahead.getEvents()));
+
+        // 둘 다 같은 경계 커서로 끝나므로 다음 주기에는 한 번만 읽는다.
+        assertEquals(behind.getNext(), ahead.getNext());
+    }
+
+    private static List<String> memberIds(List<DeveloperEventDto> events) {
+        return events.stream().map(DeveloperEventDto::getMemberId).collect(Collectors.toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperListViewTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private DeveloperEventRepository developerEventRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DeveloperListView developerListView;
+
+    @BeforeEach
+    void setUp() {
+        developerListView = new DeveloperListView(developerRepository, developerEventRepository,
+                objectMapper, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+    }
+
+    private static DeveloperDto developer(long id, String memberId, DeveloperLevel level) {
+        return DeveloperDto.builder()
+                .id(id)
+                .developerLevel(level)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .memberId(memberId)
+                .build();
+    }
+
+    @Test
+    void refresh_rebuilds_only_changed_developers() throws Exception {
+        DeveloperDto first = developer(1L, "memberId1", DeveloperLevel.JUNIOR);
+        DeveloperDto second = developer(2L, "memberId2", DeveloperLevel.JUNIOR);
+        given(developerEventRepository.findMaxId()).willReturn(10L, 12L);
+        given(developerRepository.findDeveloperDtosByStatusCode(eq(StatusCode.EMPLOYED), eq(0L), any()))
+                .willReturn(Arrays.asList(first, second));
+
+        DeveloperListView.Encoded loaded = developerListView.get();
+        assertArrayEquals(objectMapper.writeValueAsBytes(Arrays.asList(first, second)), loaded.getJson());
+        assertArrayEquals(loaded.getJson(), gunzip(loaded.getGzip()));
+
+        // memberId1 은 퇴직, memberId2 는 레벨 변경
+        DeveloperDto promoted = developer(2L, "memberId2", DeveloperLevel.SENIOR);
+        given(developerEventRepository.findMemberIdsChangedSince(eq(10L), any()))
+                .willReturn(Arrays.asList("memberId1", "memberId2"));
+        given(developerRepository.findDeveloperDtosByStatusCodeAndMemberIdIn(eq(StatusCode.EMPLOYED), anyCollection()))
+                .willReturn(Collections.singletonList(promoted));
+
+        developerListView.refresh();
+        DeveloperListView.Encoded refreshed = developerListView.get();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of(promoted)), refreshed.getJson());
+        assertNotEquals(loaded.getETag(), refreshed.getETag());
+        assertNotEquals(refreshed.getETag(), refreshed.getGzipETag());
+    }
+
+    @Test
+    void refresh_keeps_encoded_when_nothing_changed() {
+        DeveloperDto first = developer(1L, "memberId1", DeveloperLevel.JUNIOR);
+        given(developerEventRepository.findMaxId()).willReturn(10L);
+        given(developerRepository.findDeveloperDtosByStatusCode(eq(StatusCode.EMPLOYED), anyLong(), any()))
+                .willReturn(Collections.singletonList(first));
+        DeveloperListView.Encoded loaded = developerListView.get();
+
+        // event-lag 구간에서 같은 memberId 를 다시 확인해도 내용이 같으면 다시 만들지 않는다.
+        given(developerEventRepository.findMemberIdsChangedSince(anyLong(), any()))
+                .willReturn(Collections.singletonList("memberId1"));
+        given(developerRepository.findDeveloperDtosByStatusCodeAndMemberIdIn(eq(StatusCode.EMPLOYED), anyCollection()))
+                .willReturn(Collections.singletonList(first));
+        developerListView.refresh();
+
+        assertSame(loaded, developerListView.get());
+    }
+
+    @Test
+    void get_empty_list() {
+        given(developerEventRepository.findMaxId()).willReturn(0L);
+        given(developerRepository.findDeveloperDtosByStatusCode(eq(StatusCode.EMPLOYED), anyLong(), any()))
+                .willReturn(Collections.emptyList());
+
+        assertEquals("[]", new String(developerListView.get().getJson(), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeveloperSnapshotCodecTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndRead() throws Exception {
+        Path path = tempDir.resolve("developer-detail.snapshot");
+        Instant takenAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        List<DeveloperDetailDto> developers = Arrays.asList(
+                new DeveloperDetailDto(DeveloperLevel.SENIOR, DeveloperSkillType.BACK_END, 12,
+                        "memberId", "이름", 32, StatusCode.EMPLOYED, 3L),
+                // null 인 값도 그대로 복원된다.
+                new DeveloperDetailDto(null, null, null, "nulls", null, null, null, null)
+        );
+
+        int count = DeveloperSnapshotCodec.write(path, 42L, takenAt, developers.iterator());
+        DeveloperSnapshotCodec.Snapshot snapshot = DeveloperSnapshotCodec.open(path);
+
+        assertEquals(2, count);
+        assertEquals(42L, snapshot.getEventOffset());
+        assertEquals(takenAt, snapshot.getTakenAt());
+        assertEquals(2, snapshot.getCount());
+
+        assertTrue(snapshot.hasNext());
+        DeveloperDetailDto senior = snapshot.next();
+        assertEquals(DeveloperLevel.SENIOR, senior.getDeveloperLevel());
+        assertEquals(DeveloperSkillType.BACK_END, senior.getDeveloperSkillType());
+        assertEquals(12, senior.getExperienceYears());
+        assertEquals("memberId", senior.getMemberId());
+        assertEquals("이름", senior.getName());
+        assertEquals(32, senior.getAge());
+        assertEquals(StatusCode.EMPLOYED, senior.getStatusCode());
+        assertEquals(3L, senior.getVersion());
+
+        DeveloperDetailDto nulls = snapshot.next();
+        assertNull(nulls.getDeveloperLevel());
+        assertNull(nulls.getExperienceYears());
+        assertNull(nulls.getName());
+        assertNull(nulls.getVersion());
+
+        assertFalse(snapshot.hasNext());
+        assertThrows(NoSuchElementException.class, snapshot::next);
+    }
+}
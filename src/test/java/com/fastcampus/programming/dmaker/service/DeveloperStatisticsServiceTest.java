@@ -0,0 +1,112 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperHeadcountDto;
+import com.fastcampus.programming.dmaker.entity.Developer;
+import com.fastcampus.programming.dmaker.repository.DeveloperHeadcountRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(DeveloperStatisticsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션마다 실제로 커밋한다.
+class DeveloperStatisticsServiceTest {
+
+    @Autowired
+    private DeveloperStatisticsService developerStatisticsService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperHeadcountRepository developerHeadcountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        developerRepository.deleteAllInBatch();
+        developerHeadcountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void recompute_does_not_overwrite_concurrent_apply() throws Exception {
+        // 조합 행을 모두 만들어 둔다.
+        developerStatisticsService.recompute();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch applied = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 개발자를 추가하고 집계에 +1 했지만 아직 커밋하지 않은 트랜잭션
+            Future<?> create = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                developerRepository.saveAndFlush(Developer.builder()
+                        .memberId("concurrent")
+                        .statusCode(StatusCode.EMPLOYED)
+                        .developerLevel(DeveloperLevel.JUNIOR)
+                        .developerSkillType(DeveloperSkillType.BACK_END)
+                        .experienceYears(1)
+                        .build());
+                developerStatisticsService.apply(new DeveloperStatisticsService.Changes()
+                        .add(StatusCode.EMPLOYED, DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END, 1));
+                applied.countDown();
+                await(commit);
+            }));
+            assertTrue(applied.await(5, TimeUnit.SECONDS));
+
+            // 재집계는 위 트랜잭션이 커밋할 때까지 조합 행 잠금을 기다린다.
+            Future<?> recompute = executor.submit(() -> developerStatisticsService.recompute());
+            Thread.sleep(300);
+            assertFalse(recompute.isDone());
+
+            commit.countDown();
+            create.get(5, TimeUnit.SECONDS);
+            recompute.get(5, TimeUnit.SECONDS);
+
+            // 커밋된 +1 이 재집계 값으로 덮어써지지 않는다.
+            assertEquals(1L, headcount(StatusCode.EMPLOYED, DeveloperLevel.JUNIOR, DeveloperSkillType.BACK_END));
+            assertEquals(1L, developerStatisticsService.getStatistics(null, null, null).getTotal());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long headcount(
+            StatusCode statusCode,
+            DeveloperLevel developerLevel,
+            DeveloperSkillType developerSkillType
+    ) {
+        return developerStatisticsService.getStatistics(statusCode, developerLevel, developerSkillType)
+                .getHeadcounts().stream()
+                .mapToLong(DeveloperHeadcountDto::getHeadcount)
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
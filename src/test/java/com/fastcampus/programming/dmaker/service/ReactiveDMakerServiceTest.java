@@ -0,0 +1,84 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperPage;
+import com.fastcampus.programming.dmaker.dto.KeysetCursor;
+import com.fastcampus.programming.dmaker.repository.ReactiveDeveloperRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.fastcampus.programming.dmaker.constant.DMakerConstant.MAX_PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDMakerServiceTest {
+    @Mock
+    private ReactiveDeveloperRepository reactiveDeveloperRepository;
+
+    @InjectMocks
+    private ReactiveDMakerService reactiveDMakerService;
+
+    private static Flux<DeveloperDto> developers(long fromId, long toId) {
+        return Flux.fromStream(LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> DeveloperDto.builder().id(id).memberId("member" + id).build()));
+    }
+
+    @Test
+    void getEmployedDevelopers_reads_size_plus_one() {
+        // size + 1 건만 읽어서 남은 개발자가 있는지 확인한다.
+        given(reactiveDeveloperRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED, 10L, 4))
+                .willReturn(developers(11, 14));
+
+        DeveloperPage page = reactiveDMakerService.getEmployedDevelopers(KeysetCursor.encode(10L), 3).block();
+
+        assertEquals(List.of(11L, 12L, 13L), ids(page.getDevelopers()));
+        assertEquals(KeysetCursor.encode(13L), page.getNext());
+        verify(reactiveDeveloperRepository, never())
+                .findDeveloperDtosByStatusCode(eq(StatusCode.EMPLOYED), anyLong(), eq(MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void getEmployedDevelopers_last_page_has_no_next() {
+        given(reactiveDeveloperRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED, 0L, 4))
+                .willReturn(developers(1, 2));
+
+        DeveloperPage page = reactiveDMakerService.getEmployedDevelopers(null, 3).block();
+
+        assertEquals(List.of(1L, 2L), ids(page.getDevelopers()));
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void streamEmployedDevelopers_reads_until_short_page() {
+        given(reactiveDeveloperRepository.findDeveloperDtosByStatusCode(StatusCode.EMPLOYED, 0L, MAX_PAGE_SIZE))
+                .willReturn(developers(1, MAX_PAGE_SIZE));
+        given(reactiveDeveloperRepository.findDeveloperDtosByStatusCode(
+                StatusCode.EMPLOYED, (long) MAX_PAGE_SIZE, MAX_PAGE_SIZE))
+                .willReturn(developers(MAX_PAGE_SIZE + 1, MAX_PAGE_SIZE + 5));
+
+        List<DeveloperDto> streamed = reactiveDMakerService.streamEmployedDevelopers(null).collectList().block();
+
+        assertEquals(MAX_PAGE_SIZE + 5, streamed.size());
+        verify(reactiveDeveloperRepository, never()).findDeveloperDtosByStatusCode(
+                eq(StatusCode.EMPLOYED), eq((long) MAX_PAGE_SIZE + 5), anyInt());
+    }
+
+    private static List<Long> ids(List<DeveloperDto> developers) {
+        return developers.stream().map(DeveloperDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,143 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.code.StatusCode;
+import com.fastcampus.programming.dmaker.dto.CreateDeveloper;
+import com.fastcampus.programming.dmaker.dto.DeveloperDetailDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventDto;
+import com.fastcampus.programming.dmaker.dto.DeveloperEventPage;
+import com.fastcampus.programming.dmaker.repository.DeveloperEventRepository;
+import com.fastcampus.programming.dmaker.repository.DeveloperRepository;
+import com.fastcampus.programming.dmaker.type.DeveloperEventType;
+import com.fastcampus.programming.dmaker.type.DeveloperLevel;
+import com.fastcampus.programming.dmaker.type.DeveloperSkillType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// primary 와 레플리카를 다른 H2 메모리 DB 로 띄운다.
+// 레플리카에는 스키마만 있고 행은 복제되지 않으므로, 아직 따라오지 못한 레플리카와 같다.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaReadConsistencyTest.PRIMARY_URL,
+        "spring.datasource.username=sa",
+        "dmaker.datasource.routing.enabled=true",
+        "dmaker.datasource.routing.lag-query=select 0",
+        "dmaker.datasource.routing.replicas[0].url=" + ReplicaReadConsistencyTest.REPLICA_URL,
+        "dmaker.datasource.routing.replicas[0].username=sa",
+        "dmaker.events.commit-lag=0s"
+})
+class ReplicaReadConsistencyTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:consistency-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:consistency-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DMakerService dMakerService;
+
+    @Autowired
+    private DeveloperEventService developerEventService;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperEventRepository developerEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        // 레플리카 풀은 읽기 전용이므로 스키마는 직접 연결해서 만든다.
+        JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("drop all objects");
+        for (String statement : primary.queryForList("script nodata", String.class))
+            replica.execute(statement);
+
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        developerEventRepository.deleteAllInBatch();
+        developerRepository.deleteAllInBatch();
+    }
+
+    private static DeveloperDetailDto developer(String memberId) {
+        return DeveloperDetailDto.builder()
+                .memberId(memberId)
+                .statusCode(StatusCode.EMPLOYED)
+                .build();
+    }
+
+    @Test
+    void event_feed_reads_primary_while_replica_lags() {
+        writeTransaction.executeWithoutResult(status ->
+                developerEventService.publish(DeveloperEventType.CREATED, developer("lagging")));
+
+        // 읽기 전용 트랜잭션은 레플리카로 가서 아직 이벤트를 보지 못한다.
+        assertEquals(0L, readOnlyTransaction.execute(status -> developerEventRepository.count()));
+
+        // 피드는 primary 에서 읽으므로 커서를 경계로 옮기기 전에 이벤트를 받는다.
+        DeveloperEventPage page = developerEventService.getEvents(null, 10);
+        assertEquals(List.of("lagging"), memberIds(page.getEvents()));
+
+        DeveloperEventPage next = developerEventService.getEvents(page.getNext(), 10);
+        assertTrue(next.getEvents().isEmpty());
+    }
+
+    @Test
+    void changed_member_ids_are_read_from_primary() {
+        long offset = developerEventRepository.findMaxId();
+        writeTransaction.executeWithoutResult(status ->
+                developerEventService.publish(DeveloperEventType.CREATED, developer("lagging")));
+
+        // 트랜잭션 밖에서 부르는 경우 (DeveloperListView.refresh, 스냅샷 로드)
+        assertTrue(developerEventRepository.findMaxId() > offset);
+        assertEquals(List.of("lagging"), developerEventRepository.findMemberIdsChangedSince(
+                offset, LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    void cached_reads_see_own_writes_while_replica_lags() {
+        dMakerService.createDeveloper(CreateDeveloper.Request.builder()
+                .developerLevel(DeveloperLevel.JUNIOR)
+                .developerSkillType(DeveloperSkillType.BACK_END)
+                .experienceYears(3)
+                .memberId("lagging")
+                .name("name")
+                .age(30)
+                .build());
+
+        assertEquals(0L, readOnlyTransaction.execute(status -> developerRepository.count()));
+
+        // 상세 캐시와 쿼리 캐시에 들어가는 조회는 primary 에서 읽으므로 404 나 빈 목록이 캐싱되지 않는다.
+        assertEquals("lagging", dMakerService.getDeveloperDetail("lagging").getMemberId());
+        assertEquals(List.of("lagging"), dMakerService.getEmployedDevelopers(null, 10).getDevelopers().stream()
+                .map(DeveloperDto::getMemberId)
+                .collect(Collectors.toList()));
+    }
+
+    private static List<String> memberIds(List<DeveloperEventDto> events) {
+        return events.stream()
+                .map(DeveloperEventDto::getMemberId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,81 @@
+package com.fastcampus.programming.dmaker.service;
+
+import com.fastcampus.programming.dmaker.exception.DMakerErrorCode;
+import com.fastcampus.programming.dmaker.exception.DMakerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_shares_in_flight_call() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("memberId", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "value";
+                })));
+            }
+
+            // 나머지 호출이 모두 진행 중인 호출에 붙을 때까지 기다렸다가 풀어준다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.getShared() < CALLERS - 1 && System.nanoTime() < deadline)
+                Thread.sleep(1);
+            release.countDown();
+
+            for (Future<String> result : results)
+                assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1L, singleFlight.getLeaders());
+        assertEquals(CALLERS - 1, singleFlight.getShared());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    void execute_does_not_keep_result() {
+        assertEquals("first", singleFlight.execute("memberId", () -> "first"));
+        assertEquals("second", singleFlight.execute("memberId", () -> "second"));
+        assertEquals(2L, singleFlight.getLeaders());
+    }
+
+    @Test
+    void execute_rethrows_loader_exception() {
+        DMakerException exception = assertThrows(DMakerException.class,
+                () -> singleFlight.execute("memberId", () -> {
+                    throw new DMakerException(DMakerErrorCode.NO_DEVELOPER);
+                }));
+
+        assertEquals(DMakerErrorCode.NO_DEVELOPER, exception.getDMakerErrorCode());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
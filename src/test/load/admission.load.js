@@ -0,0 +1,73 @@
+// k6 부하 테스트 (https://k6.io)
+//
+// 쓰기 요청을 몰아 보내는 동안 읽기 요청의 p99 가 유지되는지 확인한다. (WriteAdmissionInterceptor)
+//   1) ./gradlew bootRun --args='--dmaker.admission.trusted-proxies=127.0.0.1,0:0:0:0:0:0:0:1'
+//      (X-Client-Id 로 writer 를 나누려면 k6 가 보내는 주소를 믿을 수 있는 프록시로 둔다.)
+//   2) k6 run -e BASE_URL=http://localhost:8080 src/test/load/admission.load.js
+// writers 는 429/503 을 받는 것이 정상이고, readers 의 http_req_duration{name:detail} p(99) 가 임계값 안에 있어야 한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MEMBERS = parseInt(__ENV.MEMBERS || '100');
+const READ_P99_MS = parseInt(__ENV.READ_P99_MS || '50');
+
+export const options = {
+    scenarios: {
+        writers: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.WRITER_VUS || '500'),
+            duration: __ENV.DURATION || '60s',
+            exec: 'write',
+        },
+        readers: {
+            executor: 'constant-arrival-rate',
+            rate: parseInt(__ENV.READ_RATE || '500'),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            exec: 'read',
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:detail}': [`p(99)<${READ_P99_MS}`],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const developers = [];
+    for (let i = 0; i < MEMBERS; i++) {
+        developers.push({
+            developerLevel: 'JUNIOR',
+            developerSkillType: 'BACK_END',
+            experienceYears: 2,
+            memberId: `admission-${i}`,
+            name: 'load',
+            age: 20,
+        });
+    }
+    http.post(`${BASE_URL}/create-developers`, JSON.stringify({ developers }), {
+        headers: { 'Content-Type': 'application/json', 'X-Client-Id': 'setup' },
+    });
+}
+
+export function write() {
+    // 클라이언트 몇 개가 대량으로 쓰는 상황
+    const memberId = `admission-${Math.floor(Math.random() * MEMBERS)}`;
+    const res = http.put(`${BASE_URL}/developer/${memberId}`, JSON.stringify({
+        developerLevel: 'JUNIOR',
+        developerSkillType: 'FRONT_END',
+        experienceYears: 3,
+    }), {
+        headers: { 'Content-Type': 'application/json', 'X-Client-Id': `importer-${__VU % 5}` },
+        tags: { name: 'edit' },
+    });
+    check(res, { 'edit answered': (r) => r.status !== 0 });
+}
+
+export function read() {
+    const memberId = `admission-${Math.floor(Math.random() * MEMBERS)}`;
+    const res = http.get(`${BASE_URL}/developer/${memberId}`, { tags: { name: 'detail' } });
+    check(res, { 'detail 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,63 @@
+// k6 부하 테스트 (https://k6.io)
+//
+// 기본 모드와 가상 스레드 모드의 처리량/p99 를 비교할 때 사용한다.
+//   1) ./gradlew bootRun
+//      ./gradlew bootRun --args='--spring.profiles.active=virtual-threads'   (Java 21)
+//   2) k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 src/test/load/developers.load.js
+// 결과의 http_reqs(rate), http_req_duration p(99) 를 두 모드에서 비교한다.
+//
+// 서블릿 API 와 R2DBC API 를 비교할 때는 reactive 프로필로 띄우고 API 만 바꿔서 돌린다.
+//   1) ./gradlew bootRun --args='--spring.profiles.active=reactive'
+//   2) k6 run -e VUS=10000 -e API=servlet src/test/load/developers.load.js
+//      k6 run -e VUS=10000 -e API=reactive src/test/load/developers.load.js
+// p(99) 와 함께 /actuator/prometheus 의 jvm_memory_used_bytes, jvm_threads_live_threads 를
+// 부하 중에 확인해서 동시 연결 하나당 메모리(부하 중 사용량 - 유휴 사용량) / VUS 를 비교한다.
+// 두 API 모두 같은 Tomcat 커넥터에서 처리된다. (Netty 아님)
+// 그래서 이 비교는 요청마다 Tomcat 스레드를 붙잡는 서블릿 + JDBC 와, 스레드를 놓아주는 MVC 비동기 + R2DBC 의 차이만 잰다.
+// 이벤트 루프 서버(WebFlux on Netty)와의 비교가 아니다.
+// 10k 연결은 Tomcat 기본 max-connections(8192) 를 넘으므로 reactive 프로필에서 server.tomcat.max-connections 를 올려둔다.
+// k6 도 VU 하나가 연결 하나를 쓰므로 클라이언트 쪽 ulimit -n 을 10k 이상으로 올리고 돌린다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000');
+const MEMBERS = parseInt(__ENV.MEMBERS || '1000');
+const API_PREFIX = __ENV.API === 'reactive' ? '/reactive' : '';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const developers = [];
+    for (let i = 0; i < MEMBERS; i++) {
+        developers.push({
+            developerLevel: 'JUNIOR',
+            developerSkillType: 'BACK_END',
+            experienceYears: 2,
+            memberId: `load-${i}`,
+            name: 'load',
+            age: 20,
+        });
+    }
+    http.post(`${BASE_URL}/create-developers`, JSON.stringify({ developers }), {
+        headers: { 'Content-Type': 'application/json' },
+    });
+}
+
+export default function () {
+    const memberId = `load-${Math.floor(Math.random() * MEMBERS)}`;
+    const detail = http.get(`${BASE_URL}${API_PREFIX}/developer/${memberId}`, { tags: { name: 'detail' } });
+    check(detail, { 'detail 200': (r) => r.status === 200 });
+
+    const list = http.get(`${BASE_URL}${API_PREFIX}/developers?size=100`, { tags: { name: 'list' } });
+    check(list, { 'list 200': (r) => r.status === 200 });
+}